@@ -0,0 +1,22 @@
+package com.vasitum.scheduler.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// app.slots.encoding=compact stores interview_slots.start_time and end_time as epoch-minute
+// INTs and status as a TINYINT. The entity keeps its LocalDateTime and enum fields; only
+// the column mapping is swapped, by adding an orm.xml override to the persistence unit.
+@Configuration
+@ConditionalOnProperty(name = "app.slots.encoding", havingValue = "compact")
+public class CompactSlotEncodingConfig {
+
+    static final String MAPPING_FILE = "META-INF/compact-slots-orm.xml";
+
+    @Bean
+    public EntityManagerFactoryBuilderCustomizer compactSlotMapping() {
+        return builder -> builder.setPersistenceUnitPostProcessors(
+            unit -> unit.addMappingFileName(MAPPING_FILE));
+    }
+}
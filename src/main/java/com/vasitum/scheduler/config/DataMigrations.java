@@ -0,0 +1,43 @@
+package com.vasitum.scheduler.config;
+
+import com.vasitum.scheduler.entity.DataMigration;
+import com.vasitum.scheduler.repository.DataMigrationRepository;
+import com.vasitum.scheduler.service.NotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Applies one-off data fixes that have not run yet. The marker row is inserted first, so a
+// second instance starting at the same time blocks on its key and rolls back.
+@Component
+public class DataMigrations implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataMigrations.class);
+
+    static final String LEGACY_RETRY_BACKFILL = "notification-legacy-retry-backfill";
+
+    @Autowired
+    private DataMigrationRepository dataMigrationRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public void run(String... args) {
+        if (dataMigrationRepository.existsById(LEGACY_RETRY_BACKFILL)) {
+            return;
+        }
+        Integer backfilled = new TransactionTemplate(transactionManager).execute(tx -> {
+            dataMigrationRepository.saveAndFlush(new DataMigration(LEGACY_RETRY_BACKFILL));
+            return notificationService.backfillLegacyRetries();
+        });
+        logger.info("Scheduled {} failed notifications left without a next attempt", backfilled);
+    }
+}
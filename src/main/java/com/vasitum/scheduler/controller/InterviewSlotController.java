@@ -1,14 +1,28 @@
 package com.vasitum.scheduler.controller;
 
+import com.vasitum.scheduler.dto.BlockRangeRequest;
+import com.vasitum.scheduler.dto.BookAnyRequest;
 import com.vasitum.scheduler.dto.BookSlotRequest;
+import com.vasitum.scheduler.dto.BookingTicketDto;
+import com.vasitum.scheduler.dto.CommonSlotDto;
+import com.vasitum.scheduler.dto.EarliestSlotsRequest;
+import com.vasitum.scheduler.dto.BulkBlockResult;
 import com.vasitum.scheduler.dto.InterviewSlotDto;
 import com.vasitum.scheduler.dto.PaginatedResponse;
+import com.vasitum.scheduler.dto.RescheduleRequest;
+import com.vasitum.scheduler.service.BookingAdmissionService;
+import com.vasitum.scheduler.service.BookingQueueService;
+import com.vasitum.scheduler.service.SlotSearchService;
 import com.vasitum.scheduler.service.InterviewSlotService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -19,6 +33,15 @@ public class InterviewSlotController {
     @Autowired
     private InterviewSlotService interviewSlotService;
 
+    @Autowired
+    private BookingAdmissionService bookingAdmissionService;
+
+    @Autowired
+    private BookingQueueService bookingQueueService;
+
+    @Autowired
+    private SlotSearchService slotSearchService;
+
     @GetMapping("/available")
     public ResponseEntity<PaginatedResponse<InterviewSlotDto>> getAvailableSlots(
             @RequestParam(required = false) String cursor,
@@ -30,10 +53,57 @@ public class InterviewSlotController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/earliest")
+    public ResponseEntity<List<InterviewSlotDto>> getEarliestSlots(@Valid @RequestBody EarliestSlotsRequest request) {
+        List<InterviewSlotDto> slots = slotSearchService.findEarliestAvailable(request);
+        return ResponseEntity.ok(slots);
+    }
+
+    @GetMapping("/common")
+    public ResponseEntity<List<CommonSlotDto>> getCommonAvailability(
+            @RequestParam List<Long> interviewerIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<CommonSlotDto> slots = slotSearchService.findCommonAvailability(interviewerIds, from, to);
+        return ResponseEntity.ok(slots);
+    }
+
     @PostMapping("/book")
-    public ResponseEntity<InterviewSlotDto> bookSlot(@Valid @RequestBody BookSlotRequest request) {
-        InterviewSlotDto slot = interviewSlotService.bookSlot(request);
-        return ResponseEntity.ok(slot);
+    public ResponseEntity<InterviewSlotDto> bookSlot(@Valid @RequestBody BookSlotRequest request,
+                                                     HttpServletRequest httpRequest) {
+        try (BookingAdmissionService.Permit permit = bookingAdmissionService.admit(
+                request.getCandidateEmail(), httpRequest.getRemoteAddr())) {
+            InterviewSlotDto slot = interviewSlotService.bookSlot(request);
+            return ResponseEntity.ok(slot);
+        }
+    }
+
+    @PostMapping("/book-any")
+    public ResponseEntity<InterviewSlotDto> bookAnyInterviewer(@Valid @RequestBody BookAnyRequest request,
+                                                               HttpServletRequest httpRequest) {
+        try (BookingAdmissionService.Permit permit = bookingAdmissionService.admit(
+                request.getCandidateEmail(), httpRequest.getRemoteAddr())) {
+            InterviewSlotDto slot = interviewSlotService.bookAnyInterviewer(request);
+            return ResponseEntity.ok(slot);
+        }
+    }
+
+    @PostMapping("/book/queued")
+    public ResponseEntity<BookingTicketDto> queueBooking(@Valid @RequestBody BookSlotRequest request,
+                                                         HttpServletRequest httpRequest) {
+        try (BookingAdmissionService.Permit permit = bookingAdmissionService.admit(
+                request.getCandidateEmail(), httpRequest.getRemoteAddr())) {
+            BookingTicketDto ticket = bookingQueueService.submit(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header("Location", "/api/v1/interview-slots/book/queued/" + ticket.getTicketId())
+                .body(ticket);
+        }
+    }
+
+    @GetMapping("/book/queued/{ticketId}")
+    public ResponseEntity<BookingTicketDto> getQueuedBooking(@PathVariable String ticketId) {
+        BookingTicketDto ticket = bookingQueueService.getTicket(ticketId);
+        return ResponseEntity.ok(ticket);
     }
 
     @PutMapping("/{slotId}")
@@ -44,6 +114,21 @@ public class InterviewSlotController {
         return ResponseEntity.ok(slot);
     }
 
+    @PostMapping("/{slotId}/reschedule")
+    public ResponseEntity<InterviewSlotDto> rescheduleSlot(
+            @PathVariable Long slotId,
+            @Valid @RequestBody RescheduleRequest request,
+            HttpServletRequest httpRequest) {
+        // A move books the target slot, so it draws on the same buckets as /book. The
+        // candidate is looked up only once the client holds a permit.
+        try (BookingAdmissionService.Permit permit = bookingAdmissionService.admit(
+                null, httpRequest.getRemoteAddr())) {
+            bookingAdmissionService.admitCandidate(interviewSlotService.getBookedCandidateEmail(slotId));
+            InterviewSlotDto slot = interviewSlotService.rescheduleSlot(slotId, request.getTargetSlotId());
+            return ResponseEntity.ok(slot);
+        }
+    }
+
     @DeleteMapping("/{slotId}/cancel")
     public ResponseEntity<Void> cancelSlot(@PathVariable Long slotId) {
         interviewSlotService.cancelSlot(slotId);
@@ -61,4 +146,13 @@ public class InterviewSlotController {
         List<InterviewSlotDto> slots = interviewSlotService.getSlotsByInterviewer(interviewerId);
         return ResponseEntity.ok(slots);
     }
+
+    @PostMapping("/interviewer/{interviewerId}/block")
+    public ResponseEntity<BulkBlockResult> blockInterviewerRange(
+            @PathVariable Long interviewerId,
+            @Valid @RequestBody BlockRangeRequest request) {
+        BulkBlockResult result = interviewSlotService.blockInterviewerRange(
+            interviewerId, request.getFrom(), request.getTo());
+        return ResponseEntity.ok(result);
+    }
 }
\ No newline at end of file
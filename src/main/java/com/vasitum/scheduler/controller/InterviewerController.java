@@ -1,14 +1,28 @@
 package com.vasitum.scheduler.controller;
 
 import com.vasitum.scheduler.dto.CreateInterviewerRequest;
+import com.vasitum.scheduler.dto.InterviewerImportResult;
+import com.vasitum.scheduler.dto.JobDto;
+import com.vasitum.scheduler.dto.JobDto.JobType;
 import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.service.InterviewerImportService;
+import com.vasitum.scheduler.service.InterviewerImportService.Format;
 import com.vasitum.scheduler.service.InterviewerService;
+import com.vasitum.scheduler.service.JobService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -19,10 +33,35 @@ public class InterviewerController {
     @Autowired
     private InterviewerService interviewerService;
 
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private InterviewerImportService interviewerImportService;
+
+    // The interviewer is returned right away; slot generation runs as a job whose id is
+    // in the X-Job-Id header
     @PostMapping
     public ResponseEntity<Interviewer> createInterviewer(@Valid @RequestBody CreateInterviewerRequest request) {
         Interviewer interviewer = interviewerService.createInterviewer(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(interviewer);
+        JobDto job = submitSlotGeneration(interviewer.getId());
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .header("X-Job-Id", job.getJobId())
+            .body(interviewer);
+    }
+
+    // Streams the body row by row: text/csv with a header row, or application/x-ndjson with
+    // one create request per line. Row errors are reported in the result, not as a failure.
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<InterviewerImportResult> importInterviewers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        Format format = mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON) ? Format.NDJSON : Format.CSV;
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), charset))) {
+            return ResponseEntity.ok(interviewerImportService.importInterviewers(reader, format));
+        }
     }
 
     @GetMapping("/{id}")
@@ -46,9 +85,12 @@ public class InterviewerController {
     }
 
     @PostMapping("/{id}/generate-slots")
-    public ResponseEntity<Void> generateSlots(@PathVariable Long id) {
-        interviewerService.generateInterviewSlots(id);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<JobDto> generateSlots(@PathVariable Long id) {
+        interviewerService.getInterviewer(id);
+        JobDto job = submitSlotGeneration(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .header("Location", "/api/v1/jobs/" + job.getJobId())
+            .body(job);
     }
 
     @DeleteMapping("/{id}")
@@ -56,4 +98,12 @@ public class InterviewerController {
         interviewerService.deleteInterviewer(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private JobDto submitSlotGeneration(Long interviewerId) {
+        return jobService.submit(JobType.GENERATE_SLOTS, "interviewer:" + interviewerId, progress -> {
+            int created = interviewerService.generateInterviewSlots(interviewerId);
+            progress.advance(created);
+            return created + " slots created";
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.vasitum.scheduler.controller;
+
+import com.vasitum.scheduler.dto.JobDto;
+import com.vasitum.scheduler.service.JobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/jobs")
+@CrossOrigin(origins = "*")
+public class JobController {
+
+    @Autowired
+    private JobService jobService;
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobDto> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(jobService.getJob(jobId));
+    }
+}
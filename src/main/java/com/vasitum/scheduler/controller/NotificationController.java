@@ -1,8 +1,14 @@
 package com.vasitum.scheduler.controller;
 
+import com.vasitum.scheduler.dto.JobDto;
 import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.entity.NotificationTemplate;
 import com.vasitum.scheduler.service.NotificationService;
+import com.vasitum.scheduler.service.NotificationTemplateService;
+import com.vasitum.scheduler.service.ScheduledTaskService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,6 +22,12 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private ScheduledTaskService scheduledTaskService;
+
+    @Autowired
+    private NotificationTemplateService notificationTemplateService;
+
     @GetMapping("/email/{email}")
     public ResponseEntity<List<Notification>> getNotificationsByEmail(@PathVariable String email) {
         List<Notification> notifications = notificationService.getNotificationsByEmail(email);
@@ -29,14 +41,39 @@ public class NotificationController {
     }
 
     @PostMapping("/process-pending")
-    public ResponseEntity<String> processPendingNotifications() {
-        notificationService.processPendingNotifications();
-        return ResponseEntity.ok("Pending notifications processed");
+    public ResponseEntity<JobDto> processPendingNotifications() {
+        return accepted(scheduledTaskService.submitPendingSweep());
     }
 
     @PostMapping("/retry-failed")
-    public ResponseEntity<String> retryFailedNotifications() {
-        notificationService.retryFailedNotifications();
-        return ResponseEntity.ok("Failed notifications retried");
+    public ResponseEntity<JobDto> retryFailedNotifications() {
+        return accepted(scheduledTaskService.submitRetrySweep());
+    }
+
+    @GetMapping(value = "/templates/{type}/{variant}", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getTemplate(@PathVariable Notification.NotificationType type,
+                                              @PathVariable NotificationTemplate.Variant variant) {
+        return ResponseEntity.ok(notificationTemplateService.getSource(type, variant));
+    }
+
+    @PutMapping(value = "/templates/{type}/{variant}", consumes = MediaType.TEXT_PLAIN_VALUE,
+                produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> saveTemplate(@PathVariable Notification.NotificationType type,
+                                               @PathVariable NotificationTemplate.Variant variant,
+                                               @RequestBody String body) {
+        return ResponseEntity.ok(notificationTemplateService.saveOverride(type, variant, body).getBody());
+    }
+
+    @DeleteMapping("/templates/{type}/{variant}")
+    public ResponseEntity<Void> deleteTemplate(@PathVariable Notification.NotificationType type,
+                                               @PathVariable NotificationTemplate.Variant variant) {
+        notificationTemplateService.deleteOverride(type, variant);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseEntity<JobDto> accepted(JobDto job) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .header("Location", "/api/v1/jobs/" + job.getJobId())
+            .body(job);
     }
-}
\ No newline at end of file
+}
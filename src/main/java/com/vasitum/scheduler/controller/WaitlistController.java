@@ -0,0 +1,39 @@
+package com.vasitum.scheduler.controller;
+
+import com.vasitum.scheduler.dto.JoinWaitlistRequest;
+import com.vasitum.scheduler.dto.WaitlistEntryDto;
+import com.vasitum.scheduler.service.WaitlistService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/waitlist")
+@CrossOrigin(origins = "*")
+public class WaitlistController {
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @PostMapping
+    public ResponseEntity<WaitlistEntryDto> joinWaitlist(@Valid @RequestBody JoinWaitlistRequest request) {
+        WaitlistEntryDto entry = waitlistService.joinWaitlist(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+    }
+
+    @GetMapping("/email/{email}")
+    public ResponseEntity<List<WaitlistEntryDto>> getEntriesByEmail(@PathVariable String email) {
+        List<WaitlistEntryDto> entries = waitlistService.getEntriesByEmail(email);
+        return ResponseEntity.ok(entries);
+    }
+
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<Void> leaveWaitlist(@PathVariable Long entryId) {
+        waitlistService.leaveWaitlist(entryId);
+        return ResponseEntity.noContent().build();
+    }
+}
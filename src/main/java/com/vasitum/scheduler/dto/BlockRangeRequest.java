@@ -0,0 +1,27 @@
+package com.vasitum.scheduler.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+public class BlockRangeRequest {
+    @NotNull(message = "Range start is required")
+    private LocalDateTime from;
+
+    @NotNull(message = "Range end is required")
+    private LocalDateTime to;
+
+    // Constructors
+    public BlockRangeRequest() {}
+
+    public BlockRangeRequest(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+}
@@ -0,0 +1,38 @@
+package com.vasitum.scheduler.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public class BookAnyRequest {
+    @NotNull(message = "Start time is required")
+    private LocalDateTime startTime;
+
+    @NotBlank(message = "Candidate name is required")
+    private String candidateName;
+
+    @NotBlank(message = "Candidate email is required")
+    @Email(message = "Invalid email format")
+    private String candidateEmail;
+
+    // Constructors
+    public BookAnyRequest() {}
+
+    public BookAnyRequest(LocalDateTime startTime, String candidateName, String candidateEmail) {
+        this.startTime = startTime;
+        this.candidateName = candidateName;
+        this.candidateEmail = candidateEmail;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getStartTime() { return startTime; }
+    public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+
+    public String getCandidateName() { return candidateName; }
+    public void setCandidateName(String candidateName) { this.candidateName = candidateName; }
+
+    public String getCandidateEmail() { return candidateEmail; }
+    public void setCandidateEmail(String candidateEmail) { this.candidateEmail = candidateEmail; }
+}
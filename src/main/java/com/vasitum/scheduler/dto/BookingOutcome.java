@@ -0,0 +1,39 @@
+package com.vasitum.scheduler.dto;
+
+public class BookingOutcome {
+    private boolean booked;
+    private InterviewSlotDto slot;
+    private String errorCode;
+    private String message;
+
+    // Constructors
+    public BookingOutcome() {}
+
+    private BookingOutcome(boolean booked, InterviewSlotDto slot, String errorCode, String message) {
+        this.booked = booked;
+        this.slot = slot;
+        this.errorCode = errorCode;
+        this.message = message;
+    }
+
+    public static BookingOutcome booked(InterviewSlotDto slot) {
+        return new BookingOutcome(true, slot, null, null);
+    }
+
+    public static BookingOutcome rejected(String errorCode, String message) {
+        return new BookingOutcome(false, null, errorCode, message);
+    }
+
+    // Getters and Setters
+    public boolean isBooked() { return booked; }
+    public void setBooked(boolean booked) { this.booked = booked; }
+
+    public InterviewSlotDto getSlot() { return slot; }
+    public void setSlot(InterviewSlotDto slot) { this.slot = slot; }
+
+    public String getErrorCode() { return errorCode; }
+    public void setErrorCode(String errorCode) { this.errorCode = errorCode; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,64 @@
+package com.vasitum.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public class BookingTicketDto {
+    private String ticketId;
+    private TicketStatus status;
+    private Long slotId;
+    private String candidateEmail;
+    private InterviewSlotDto slot;
+    private String errorCode;
+    private String message;
+    private LocalDateTime queuedAt;
+    private LocalDateTime decidedAt;
+
+    public enum TicketStatus {
+        QUEUED, BOOKED, REJECTED
+    }
+
+    // Constructors
+    public BookingTicketDto() {}
+
+    public BookingTicketDto(String ticketId, TicketStatus status, Long slotId, String candidateEmail,
+                            InterviewSlotDto slot, String errorCode, String message,
+                            LocalDateTime queuedAt, LocalDateTime decidedAt) {
+        this.ticketId = ticketId;
+        this.status = status;
+        this.slotId = slotId;
+        this.candidateEmail = candidateEmail;
+        this.slot = slot;
+        this.errorCode = errorCode;
+        this.message = message;
+        this.queuedAt = queuedAt;
+        this.decidedAt = decidedAt;
+    }
+
+    // Getters and Setters
+    public String getTicketId() { return ticketId; }
+    public void setTicketId(String ticketId) { this.ticketId = ticketId; }
+
+    public TicketStatus getStatus() { return status; }
+    public void setStatus(TicketStatus status) { this.status = status; }
+
+    public Long getSlotId() { return slotId; }
+    public void setSlotId(Long slotId) { this.slotId = slotId; }
+
+    public String getCandidateEmail() { return candidateEmail; }
+    public void setCandidateEmail(String candidateEmail) { this.candidateEmail = candidateEmail; }
+
+    public InterviewSlotDto getSlot() { return slot; }
+    public void setSlot(InterviewSlotDto slot) { this.slot = slot; }
+
+    public String getErrorCode() { return errorCode; }
+    public void setErrorCode(String errorCode) { this.errorCode = errorCode; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getQueuedAt() { return queuedAt; }
+    public void setQueuedAt(LocalDateTime queuedAt) { this.queuedAt = queuedAt; }
+
+    public LocalDateTime getDecidedAt() { return decidedAt; }
+    public void setDecidedAt(LocalDateTime decidedAt) { this.decidedAt = decidedAt; }
+}
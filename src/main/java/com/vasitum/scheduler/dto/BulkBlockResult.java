@@ -0,0 +1,39 @@
+package com.vasitum.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public class BulkBlockResult {
+    private Long interviewerId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int cancelledBookings;
+    private int blockedSlots;
+
+    // Constructors
+    public BulkBlockResult() {}
+
+    public BulkBlockResult(Long interviewerId, LocalDateTime from, LocalDateTime to,
+                           int cancelledBookings, int blockedSlots) {
+        this.interviewerId = interviewerId;
+        this.from = from;
+        this.to = to;
+        this.cancelledBookings = cancelledBookings;
+        this.blockedSlots = blockedSlots;
+    }
+
+    // Getters and Setters
+    public Long getInterviewerId() { return interviewerId; }
+    public void setInterviewerId(Long interviewerId) { this.interviewerId = interviewerId; }
+
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    public int getCancelledBookings() { return cancelledBookings; }
+    public void setCancelledBookings(int cancelledBookings) { this.cancelledBookings = cancelledBookings; }
+
+    public int getBlockedSlots() { return blockedSlots; }
+    public void setBlockedSlots(int blockedSlots) { this.blockedSlots = blockedSlots; }
+}
@@ -0,0 +1,25 @@
+package com.vasitum.scheduler.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CommonSlotDto {
+    private LocalDateTime startTime;
+    // One AVAILABLE slot per requested interviewer, in request order
+    private List<Long> slotIds;
+
+    // Constructors
+    public CommonSlotDto() {}
+
+    public CommonSlotDto(LocalDateTime startTime, List<Long> slotIds) {
+        this.startTime = startTime;
+        this.slotIds = slotIds;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getStartTime() { return startTime; }
+    public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+
+    public List<Long> getSlotIds() { return slotIds; }
+    public void setSlotIds(List<Long> slotIds) { this.slotIds = slotIds; }
+}
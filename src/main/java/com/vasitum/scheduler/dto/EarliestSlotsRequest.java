@@ -0,0 +1,35 @@
+package com.vasitum.scheduler.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EarliestSlotsRequest {
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 100, message = "Limit must be at most 100")
+    private int limit = 10;
+
+    // Preferred windows; when empty the next two weeks are searched
+    @Valid
+    @Size(max = 20, message = "At most 20 windows are allowed")
+    private List<TimeWindow> windows = new ArrayList<>();
+
+    // Constructors
+    public EarliestSlotsRequest() {}
+
+    public EarliestSlotsRequest(int limit, List<TimeWindow> windows) {
+        this.limit = limit;
+        this.windows = windows;
+    }
+
+    // Getters and Setters
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+
+    public List<TimeWindow> getWindows() { return windows; }
+    public void setWindows(List<TimeWindow> windows) { this.windows = windows; }
+}
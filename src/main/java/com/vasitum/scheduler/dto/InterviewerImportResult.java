@@ -0,0 +1,56 @@
+package com.vasitum.scheduler.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InterviewerImportResult {
+    private int imported;
+    private int failed;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+    private String jobId;
+
+    public static class RowError {
+        private long line;
+        private String email;
+        private String message;
+
+        // Constructors
+        public RowError() {}
+
+        public RowError(long line, String email, String message) {
+            this.line = line;
+            this.email = email;
+            this.message = message;
+        }
+
+        // Getters and Setters
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+
+    // Constructors
+    public InterviewerImportResult() {}
+
+    // Getters and Setters
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+}
@@ -0,0 +1,78 @@
+package com.vasitum.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public class JobDto {
+    private String jobId;
+    private JobType type;
+    private String target;
+    private JobStatus status;
+    private long processed;
+    private Long total;
+    private String result;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public enum JobType {
+        GENERATE_SLOTS, PROCESS_PENDING_NOTIFICATIONS, RETRY_FAILED_NOTIFICATIONS, PURGE_INTERVIEWER
+    }
+
+    public enum JobStatus {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    // Constructors
+    public JobDto() {}
+
+    public JobDto(String jobId, JobType type, String target, JobStatus status, long processed, Long total,
+                  String result, String error, LocalDateTime submittedAt, LocalDateTime startedAt,
+                  LocalDateTime finishedAt) {
+        this.jobId = jobId;
+        this.type = type;
+        this.target = target;
+        this.status = status;
+        this.processed = processed;
+        this.total = total;
+        this.result = result;
+        this.error = error;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    // Getters and Setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public JobType getType() { return type; }
+    public void setType(JobType type) { this.type = type; }
+
+    public String getTarget() { return target; }
+    public void setTarget(String target) { this.target = target; }
+
+    public JobStatus getStatus() { return status; }
+    public void setStatus(JobStatus status) { this.status = status; }
+
+    public long getProcessed() { return processed; }
+    public void setProcessed(long processed) { this.processed = processed; }
+
+    public Long getTotal() { return total; }
+    public void setTotal(Long total) { this.total = total; }
+
+    public String getResult() { return result; }
+    public void setResult(String result) { this.result = result; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(LocalDateTime submittedAt) { this.submittedAt = submittedAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
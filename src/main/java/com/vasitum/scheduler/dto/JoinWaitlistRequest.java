@@ -0,0 +1,52 @@
+package com.vasitum.scheduler.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+public class JoinWaitlistRequest {
+    @NotNull(message = "Interviewer ID is required")
+    private Long interviewerId;
+
+    @NotNull(message = "Window start is required")
+    private LocalDateTime windowStart;
+
+    @NotNull(message = "Window end is required")
+    private LocalDateTime windowEnd;
+
+    @NotBlank(message = "Candidate name is required")
+    private String candidateName;
+
+    @NotBlank(message = "Candidate email is required")
+    @Email(message = "Invalid email format")
+    private String candidateEmail;
+
+    // Constructors
+    public JoinWaitlistRequest() {}
+
+    public JoinWaitlistRequest(Long interviewerId, LocalDateTime windowStart, LocalDateTime windowEnd,
+                               String candidateName, String candidateEmail) {
+        this.interviewerId = interviewerId;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.candidateName = candidateName;
+        this.candidateEmail = candidateEmail;
+    }
+
+    // Getters and Setters
+    public Long getInterviewerId() { return interviewerId; }
+    public void setInterviewerId(Long interviewerId) { this.interviewerId = interviewerId; }
+
+    public LocalDateTime getWindowStart() { return windowStart; }
+    public void setWindowStart(LocalDateTime windowStart) { this.windowStart = windowStart; }
+
+    public LocalDateTime getWindowEnd() { return windowEnd; }
+    public void setWindowEnd(LocalDateTime windowEnd) { this.windowEnd = windowEnd; }
+
+    public String getCandidateName() { return candidateName; }
+    public void setCandidateName(String candidateName) { this.candidateName = candidateName; }
+
+    public String getCandidateEmail() { return candidateEmail; }
+    public void setCandidateEmail(String candidateEmail) { this.candidateEmail = candidateEmail; }
+}
@@ -0,0 +1,19 @@
+package com.vasitum.scheduler.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public class RescheduleRequest {
+    @NotNull(message = "Target slot ID is required")
+    private Long targetSlotId;
+
+    // Constructors
+    public RescheduleRequest() {}
+
+    public RescheduleRequest(Long targetSlotId) {
+        this.targetSlotId = targetSlotId;
+    }
+
+    // Getters and Setters
+    public Long getTargetSlotId() { return targetSlotId; }
+    public void setTargetSlotId(Long targetSlotId) { this.targetSlotId = targetSlotId; }
+}
@@ -0,0 +1,28 @@
+package com.vasitum.scheduler.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public class TimeWindow {
+    @NotNull(message = "Window start is required")
+    private LocalDateTime start;
+
+    @NotNull(message = "Window end is required")
+    private LocalDateTime end;
+
+    // Constructors
+    public TimeWindow() {}
+
+    public TimeWindow(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getStart() { return start; }
+    public void setStart(LocalDateTime start) { this.start = start; }
+
+    public LocalDateTime getEnd() { return end; }
+    public void setEnd(LocalDateTime end) { this.end = end; }
+}
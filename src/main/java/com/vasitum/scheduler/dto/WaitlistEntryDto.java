@@ -0,0 +1,54 @@
+package com.vasitum.scheduler.dto;
+
+import com.vasitum.scheduler.entity.WaitlistEntry;
+import java.time.LocalDateTime;
+
+public class WaitlistEntryDto {
+    private Long id;
+    private Long interviewerId;
+    private String interviewerName;
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private String candidateName;
+    private String candidateEmail;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public WaitlistEntryDto() {}
+
+    public WaitlistEntryDto(WaitlistEntry entry) {
+        this.id = entry.getId();
+        this.interviewerId = entry.getInterviewer().getId();
+        this.interviewerName = entry.getInterviewer().getName();
+        this.windowStart = entry.getWindowStart();
+        this.windowEnd = entry.getWindowEnd();
+        this.candidateName = entry.getCandidateName();
+        this.candidateEmail = entry.getCandidateEmail();
+        this.createdAt = entry.getCreatedAt();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getInterviewerId() { return interviewerId; }
+    public void setInterviewerId(Long interviewerId) { this.interviewerId = interviewerId; }
+
+    public String getInterviewerName() { return interviewerName; }
+    public void setInterviewerName(String interviewerName) { this.interviewerName = interviewerName; }
+
+    public LocalDateTime getWindowStart() { return windowStart; }
+    public void setWindowStart(LocalDateTime windowStart) { this.windowStart = windowStart; }
+
+    public LocalDateTime getWindowEnd() { return windowEnd; }
+    public void setWindowEnd(LocalDateTime windowEnd) { this.windowEnd = windowEnd; }
+
+    public String getCandidateName() { return candidateName; }
+    public void setCandidateName(String candidateName) { this.candidateName = candidateName; }
+
+    public String getCandidateEmail() { return candidateEmail; }
+    public void setCandidateEmail(String candidateEmail) { this.candidateEmail = candidateEmail; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,30 @@
+package com.vasitum.scheduler.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// A one-off data fix that has been applied. Written in the same transaction as the fix,
+// so it runs exactly once even when several instances start together.
+@Entity
+@Table(name = "data_migrations")
+public class DataMigration {
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    // Constructors
+    protected DataMigration() {}
+
+    public DataMigration(String name) {
+        this.name = name;
+        this.appliedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public String getName() { return name; }
+
+    public LocalDateTime getAppliedAt() { return appliedAt; }
+}
@@ -0,0 +1,32 @@
+package com.vasitum.scheduler.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Compact slot encoding: a slot time as minutes since 1970-01-01T00:00 in the same local
+// time the application uses everywhere else. Fits a 4-byte INT until the year 6053.
+// Seconds are dropped, which is exact for slot times since slots sit on a minute grid.
+@Converter
+public class EpochMinuteConverter implements AttributeConverter<LocalDateTime, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(LocalDateTime time) {
+        return time == null ? null : toEpochMinute(time);
+    }
+
+    @Override
+    public LocalDateTime convertToEntityAttribute(Integer minute) {
+        return minute == null ? null : fromEpochMinute(minute);
+    }
+
+    public static int toEpochMinute(LocalDateTime time) {
+        return Math.toIntExact(Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    public static LocalDateTime fromEpochMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+}
@@ -5,7 +5,12 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "interview_slots")
+@Table(name = "interview_slots", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_slots_interviewer_start", columnNames = {"interviewer_id", "start_time"})
+}, indexes = {
+    @Index(name = "idx_slots_status_start", columnList = "status, start_time"),
+    @Index(name = "idx_slots_interviewer_status_start", columnList = "interviewer_id, status, start_time")
+})
 public class InterviewSlot {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -46,7 +51,7 @@ public class InterviewSlot {
     private LocalDateTime updatedAt;
 
     public enum SlotStatus {
-        AVAILABLE, BOOKED, CANCELLED
+        AVAILABLE, BOOKED, CANCELLED, BLOCKED
     }
 
     @PrePersist
@@ -34,6 +34,11 @@ public class Interviewer {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set on delete; the row and its slots are purged in the background afterwards
+    @Column(name = "deleted_at")
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "interviewer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
     private List<AvailabilitySlot> availabilitySlots;
@@ -81,6 +86,9 @@ public class Interviewer {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+
     public List<AvailabilitySlot> getAvailabilitySlots() { return availabilitySlots; }
     public void setAvailabilitySlots(List<AvailabilitySlot> availabilitySlots) { this.availabilitySlots = availabilitySlots; }
 
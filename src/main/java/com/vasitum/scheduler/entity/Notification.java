@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notifications_status_scheduled", columnList = "status, scheduled_for, id"),
+    @Index(name = "idx_notifications_status_next_attempt", columnList = "status, next_attempt_at, id")
+})
 public class Notification {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,6 +22,10 @@ public class Notification {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // HTML alternative of content, when the type has an HTML template
+    @Column(name = "html_content", columnDefinition = "TEXT")
+    private String htmlContent;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private NotificationType type;
@@ -42,6 +49,10 @@ public class Notification {
     @Column(name = "error_message")
     private String errorMessage;
 
+    // When a FAILED notification is due for its next retry; null once retries are exhausted
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     // Reference to related entities
     @Column(name = "interview_slot_id")
     private Long interviewSlotId;
@@ -52,6 +63,13 @@ public class Notification {
     @Column(name = "is_read", nullable = false)
     private Boolean isRead = false;
 
+    // Dispatch lease: the claim token of the sender working on this row and when it lapses
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
     public enum NotificationType {
         BOOKING_CONFIRMATION,
         INTERVIEW_REMINDER,
@@ -98,6 +116,9 @@ public class Notification {
     public String getContent() { return content; }
     public void setContent(String content) { this.content = content; }
 
+    public String getHtmlContent() { return htmlContent; }
+    public void setHtmlContent(String htmlContent) { this.htmlContent = htmlContent; }
+
     public NotificationType getType() { return type; }
     public void setType(NotificationType type) { this.type = type; }
 
@@ -119,6 +140,9 @@ public class Notification {
     public String getErrorMessage() { return errorMessage; }
     public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
 
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
     public Long getInterviewSlotId() { return interviewSlotId; }
     public void setInterviewSlotId(Long interviewSlotId) { this.interviewSlotId = interviewSlotId; }
 
@@ -127,4 +151,10 @@ public class Notification {
 
     public Boolean getIsRead() { return isRead; }
     public void setIsRead(Boolean isRead) { this.isRead = isRead; }
+
+    public String getClaimedBy() { return claimedBy; }
+    public void setClaimedBy(String claimedBy) { this.claimedBy = claimedBy; }
+
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(LocalDateTime leaseUntil) { this.leaseUntil = leaseUntil; }
 }
\ No newline at end of file
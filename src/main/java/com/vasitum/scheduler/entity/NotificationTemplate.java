@@ -0,0 +1,60 @@
+package com.vasitum.scheduler.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// A database override of one part of a mail template. Where no row exists the bundled
+// resource under mail/ is used, so only edited wording lives here.
+@Entity
+@Table(name = "notification_templates", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_notification_templates_type_variant", columnNames = {"type", "variant"})
+})
+public class NotificationTemplate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Notification.NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Variant variant;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Variant {
+        SUBJECT,
+        TEXT,
+        HTML
+    }
+
+    // Constructors
+    protected NotificationTemplate() {}
+
+    public NotificationTemplate(Notification.NotificationType type, Variant variant, String body) {
+        this.type = type;
+        this.variant = variant;
+        setBody(body);
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+
+    public Notification.NotificationType getType() { return type; }
+
+    public Variant getVariant() { return variant; }
+
+    public String getBody() { return body; }
+    public void setBody(String body) {
+        this.body = body;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,110 @@
+package com.vasitum.scheduler.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Snapshot of a booking-side change, written in the same transaction as the change
+// and turned into Notification rows by NotificationRelayService. Rows are never
+// updated (there are no setters); the relay deletes them once relayed. The one exception
+// is held_at: slot generation events being coalesced stay in the table, stamped with the
+// time the relay handed them to NotificationDigestService, until their digest is saved.
+@Entity
+@Table(name = "notification_outbox")
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private EventType eventType;
+
+    @Column(name = "interview_slot_id")
+    private Long interviewSlotId;
+
+    @Column(name = "previous_slot_id")
+    private Long previousSlotId;
+
+    @Column(name = "interviewer_id")
+    private Long interviewerId;
+
+    @Column(name = "interviewer_name")
+    private String interviewerName;
+
+    @Column(name = "recipient_email", nullable = false)
+    private String recipientEmail;
+
+    @Column(name = "recipient_name")
+    private String recipientName;
+
+    @Column(name = "start_time")
+    private LocalDateTime startTime;
+
+    @Column(name = "previous_start_time")
+    private LocalDateTime previousStartTime;
+
+    @Column(name = "slot_count")
+    private Integer slotCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "held_at")
+    private LocalDateTime heldAt;
+
+    public enum EventType {
+        SLOT_BOOKED,
+        SLOT_CANCELLED,
+        BOOKING_UPDATED,
+        SLOTS_GENERATED
+    }
+
+    // Constructors
+    protected OutboxEvent() {}
+
+    private OutboxEvent(EventType eventType, String recipientEmail, String recipientName) {
+        this.eventType = eventType;
+        this.recipientEmail = recipientEmail;
+        this.recipientName = recipientName;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static OutboxEvent forSlot(EventType eventType, InterviewSlot slot) {
+        OutboxEvent event = new OutboxEvent(eventType, slot.getCandidateEmail(), slot.getCandidateName());
+        event.interviewSlotId = slot.getId();
+        event.interviewerId = slot.getInterviewer().getId();
+        event.interviewerName = slot.getInterviewer().getName();
+        event.startTime = slot.getStartTime();
+        return event;
+    }
+
+    public static OutboxEvent forMove(InterviewSlot from, InterviewSlot to) {
+        OutboxEvent event = forSlot(EventType.BOOKING_UPDATED, to);
+        event.previousSlotId = from.getId();
+        event.previousStartTime = from.getStartTime();
+        return event;
+    }
+
+    public static OutboxEvent forGeneration(Interviewer interviewer, int slotCount) {
+        OutboxEvent event = new OutboxEvent(EventType.SLOTS_GENERATED, interviewer.getEmail(), interviewer.getName());
+        event.interviewerId = interviewer.getId();
+        event.interviewerName = interviewer.getName();
+        event.slotCount = slotCount;
+        return event;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public EventType getEventType() { return eventType; }
+    public Long getInterviewSlotId() { return interviewSlotId; }
+    public Long getPreviousSlotId() { return previousSlotId; }
+    public Long getInterviewerId() { return interviewerId; }
+    public String getInterviewerName() { return interviewerName; }
+    public String getRecipientEmail() { return recipientEmail; }
+    public String getRecipientName() { return recipientName; }
+    public LocalDateTime getStartTime() { return startTime; }
+    public LocalDateTime getPreviousStartTime() { return previousStartTime; }
+    public Integer getSlotCount() { return slotCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getHeldAt() { return heldAt; }
+}
@@ -0,0 +1,74 @@
+package com.vasitum.scheduler.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Append-only history of changes to InterviewSlot. Rows are written in batches by
+// SlotAuditService (plain JDBC, since IDENTITY ids defeat Hibernate insert batching)
+// and are never updated, so there are no setters.
+@Entity
+@Table(name = "slot_audit_log", indexes = {
+    @Index(name = "idx_slot_audit_slot", columnList = "slot_id, id")
+})
+public class SlotAuditRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "slot_id", nullable = false)
+    private Long slotId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 32)
+    private AuditAction action;
+
+    @Column(name = "actor", nullable = false)
+    private String actor;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "before_status", length = 32)
+    private InterviewSlot.SlotStatus beforeStatus;
+
+    @Column(name = "before_candidate_name")
+    private String beforeCandidateName;
+
+    @Column(name = "before_candidate_email")
+    private String beforeCandidateEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "after_status", length = 32)
+    private InterviewSlot.SlotStatus afterStatus;
+
+    @Column(name = "after_candidate_name")
+    private String afterCandidateName;
+
+    @Column(name = "after_candidate_email")
+    private String afterCandidateEmail;
+
+    public enum AuditAction {
+        BOOKED,
+        UPDATED,
+        CANCELLED,
+        RESCHEDULED,
+        BLOCKED
+    }
+
+    // Constructors
+    protected SlotAuditRecord() {}
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getSlotId() { return slotId; }
+    public AuditAction getAction() { return action; }
+    public String getActor() { return actor; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public InterviewSlot.SlotStatus getBeforeStatus() { return beforeStatus; }
+    public String getBeforeCandidateName() { return beforeCandidateName; }
+    public String getBeforeCandidateEmail() { return beforeCandidateEmail; }
+    public InterviewSlot.SlotStatus getAfterStatus() { return afterStatus; }
+    public String getAfterCandidateName() { return afterCandidateName; }
+    public String getAfterCandidateEmail() { return afterCandidateEmail; }
+}
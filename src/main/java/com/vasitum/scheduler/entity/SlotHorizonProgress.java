@@ -0,0 +1,43 @@
+package com.vasitum.scheduler.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// How far ahead an interviewer's slots have been materialized. Written in the same
+// transaction as the slots, so a rolling-horizon run that stops part way resumes from
+// the last committed interviewer instead of starting over.
+@Entity
+@Table(name = "slot_horizon_progress")
+public class SlotHorizonProgress {
+    @Id
+    @Column(name = "interviewer_id")
+    private Long interviewerId;
+
+    // Exclusive: slots exist for every rule-matching day before this date
+    @Column(name = "covered_until", nullable = false)
+    private LocalDate coveredUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    protected SlotHorizonProgress() {}
+
+    public SlotHorizonProgress(Long interviewerId, LocalDate coveredUntil) {
+        this.interviewerId = interviewerId;
+        this.coveredUntil = coveredUntil;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getInterviewerId() { return interviewerId; }
+
+    public LocalDate getCoveredUntil() { return coveredUntil; }
+    public void setCoveredUntil(LocalDate coveredUntil) {
+        this.coveredUntil = coveredUntil;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,41 @@
+package com.vasitum.scheduler.entity;
+
+import com.vasitum.scheduler.entity.InterviewSlot.SlotStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Compact slot encoding: the status as a TINYINT. Codes are fixed here rather than taken
+// from the enum's ordinal, so reordering the enum can never change stored data.
+@Converter
+public class SlotStatusCodeConverter implements AttributeConverter<SlotStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(SlotStatus status) {
+        return status == null ? null : toCode(status);
+    }
+
+    @Override
+    public SlotStatus convertToEntityAttribute(Byte code) {
+        return code == null ? null : fromCode(code);
+    }
+
+    public static byte toCode(SlotStatus status) {
+        switch (status) {
+            case AVAILABLE: return 0;
+            case BOOKED: return 1;
+            case CANCELLED: return 2;
+            case BLOCKED: return 3;
+            default: throw new IllegalArgumentException("No code for slot status " + status);
+        }
+    }
+
+    public static SlotStatus fromCode(byte code) {
+        switch (code) {
+            case 0: return SlotStatus.AVAILABLE;
+            case 1: return SlotStatus.BOOKED;
+            case 2: return SlotStatus.CANCELLED;
+            case 3: return SlotStatus.BLOCKED;
+            default: throw new IllegalArgumentException("Unknown slot status code " + code);
+        }
+    }
+}
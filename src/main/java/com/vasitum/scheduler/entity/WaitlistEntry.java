@@ -0,0 +1,75 @@
+package com.vasitum.scheduler.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "waitlist_entries", indexes = {
+    @Index(name = "idx_waitlist_interviewer_window", columnList = "interviewer_id, window_end, window_start")
+})
+public class WaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "interviewer_id", nullable = false)
+    private Interviewer interviewer;
+
+    @NotNull
+    @Column(name = "window_start", nullable = false)
+    private LocalDateTime windowStart;
+
+    @NotNull
+    @Column(name = "window_end", nullable = false)
+    private LocalDateTime windowEnd;
+
+    @Column(name = "candidate_name", nullable = false)
+    private String candidateName;
+
+    @Column(name = "candidate_email", nullable = false)
+    private String candidateEmail;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public WaitlistEntry() {}
+
+    public WaitlistEntry(Interviewer interviewer, LocalDateTime windowStart, LocalDateTime windowEnd,
+                         String candidateName, String candidateEmail) {
+        this.interviewer = interviewer;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.candidateName = candidateName;
+        this.candidateEmail = candidateEmail;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Interviewer getInterviewer() { return interviewer; }
+    public void setInterviewer(Interviewer interviewer) { this.interviewer = interviewer; }
+
+    public LocalDateTime getWindowStart() { return windowStart; }
+    public void setWindowStart(LocalDateTime windowStart) { this.windowStart = windowStart; }
+
+    public LocalDateTime getWindowEnd() { return windowEnd; }
+    public void setWindowEnd(LocalDateTime windowEnd) { this.windowEnd = windowEnd; }
+
+    public String getCandidateName() { return candidateName; }
+    public void setCandidateName(String candidateName) { this.candidateName = candidateName; }
+
+    public String getCandidateEmail() { return candidateEmail; }
+    public void setCandidateEmail(String candidateEmail) { this.candidateEmail = candidateEmail; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
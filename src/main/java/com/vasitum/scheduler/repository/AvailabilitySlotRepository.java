@@ -2,11 +2,13 @@ package com.vasitum.scheduler.repository;
 
 import com.vasitum.scheduler.entity.AvailabilitySlot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,4 +25,25 @@ public interface AvailabilitySlotRepository extends JpaRepository<AvailabilitySl
     
     @Query("SELECT a FROM AvailabilitySlot a WHERE a.isActive = true")
     List<AvailabilitySlot> findAllActiveSlots();
+
+    @Modifying
+    @Query("UPDATE AvailabilitySlot a SET a.isActive = false WHERE a.id IN :ids")
+    int deactivateByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a FROM AvailabilitySlot a JOIN FETCH a.interviewer WHERE a.isActive = true")
+    List<AvailabilitySlot> findAllActiveWithInterviewer();
+
+    @Query("SELECT a FROM AvailabilitySlot a JOIN FETCH a.interviewer " +
+           "WHERE a.isActive = true AND a.interviewer.id IN :interviewerIds")
+    List<AvailabilitySlot> findActiveWithInterviewerByInterviewerIds(
+        @Param("interviewerIds") Collection<Long> interviewerIds
+    );
+
+    @Modifying
+    @Query("UPDATE AvailabilitySlot a SET a.isActive = false WHERE a.interviewer.id = :interviewerId AND a.isActive = true")
+    int deactivateByInterviewerId(@Param("interviewerId") Long interviewerId);
+
+    @Modifying
+    @Query("DELETE FROM AvailabilitySlot a WHERE a.interviewer.id = :interviewerId")
+    int deleteByInterviewerId(@Param("interviewerId") Long interviewerId);
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,7 +22,15 @@ public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Lo
     @Query("SELECT s FROM InterviewSlot s WHERE s.id = :id")
     Optional<InterviewSlot> findByIdWithLock(@Param("id") Long id);
     
-    @Query("SELECT s FROM InterviewSlot s WHERE s.status = 'AVAILABLE' " +
+    @Query("SELECT s.candidateEmail FROM InterviewSlot s WHERE s.id = :id")
+    Optional<String> findCandidateEmailById(@Param("id") Long id);
+
+    // Locks a whole batch in id order so concurrent batches cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InterviewSlot s WHERE s.id IN :ids ORDER BY s.id ASC")
+    List<InterviewSlot> findAllByIdWithLock(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s FROM InterviewSlot s WHERE s.status = AVAILABLE " +
            "AND s.startTime >= :startTime AND s.endTime <= :endTime " +
            "AND (:cursor IS NULL OR s.id > :cursor) " +
            "ORDER BY s.id ASC")
@@ -32,7 +41,7 @@ public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Lo
         Pageable pageable
     );
     
-    @Query("SELECT s FROM InterviewSlot s WHERE s.status = 'AVAILABLE' " +
+    @Query("SELECT s FROM InterviewSlot s WHERE s.status = AVAILABLE " +
            "AND s.startTime >= :startTime AND s.endTime <= :endTime " +
            "ORDER BY s.startTime ASC")
     List<InterviewSlot> findAvailableSlots(
@@ -43,25 +52,160 @@ public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Lo
     
     @Query("SELECT s FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId " +
            "AND s.startTime >= :weekStart AND s.startTime < :weekEnd " +
-           "AND s.status = 'BOOKED'")
+           "AND s.status = BOOKED")
     List<InterviewSlot> findBookedSlotsForWeek(
         @Param("interviewerId") Long interviewerId,
         @Param("weekStart") LocalDateTime weekStart,
         @Param("weekEnd") LocalDateTime weekEnd
     );
     
+    @Query("SELECT s.interviewer.id, COUNT(s) FROM InterviewSlot s " +
+           "WHERE s.status = BOOKED AND s.startTime >= :weekStart AND s.startTime < :weekEnd " +
+           "GROUP BY s.interviewer.id")
+    List<Object[]> countBookedByInterviewer(
+        @Param("weekStart") LocalDateTime weekStart,
+        @Param("weekEnd") LocalDateTime weekEnd
+    );
+
+    @Query("SELECT s FROM InterviewSlot s WHERE s.status = AVAILABLE " +
+           "AND s.startTime = :startTime ORDER BY s.id ASC")
+    List<InterviewSlot> findAvailableStartingAt(@Param("startTime") LocalDateTime startTime);
+
+    // Keyset page of one interviewer's open slots, in start order, after (afterTime, afterId)
+    @Query("SELECT s FROM InterviewSlot s JOIN FETCH s.interviewer " +
+           "WHERE s.interviewer.id = :interviewerId AND s.status = AVAILABLE " +
+           "AND (s.startTime > :afterTime OR (s.startTime = :afterTime AND s.id > :afterId)) " +
+           "AND s.endTime <= :endTime " +
+           "ORDER BY s.startTime ASC, s.id ASC")
+    List<InterviewSlot> findAvailableForInterviewerAfter(
+        @Param("interviewerId") Long interviewerId,
+        @Param("afterTime") LocalDateTime afterTime,
+        @Param("afterId") Long afterId,
+        @Param("endTime") LocalDateTime endTime,
+        Pageable pageable
+    );
+
+    // Earliest open start per interviewer in one round trip. Each MIN is a single seek on
+    // idx_slots_interviewer_status_start, so the cost follows the number of interviewers,
+    // not the number of open slots; interviewers with nothing open come back with null.
+    @Query("SELECT i.id, (SELECT MIN(s.startTime) FROM InterviewSlot s " +
+           "WHERE s.interviewer.id = i.id AND s.status = AVAILABLE " +
+           "AND s.startTime >= :from AND s.startTime < :to) " +
+           "FROM Interviewer i WHERE i.deletedAt IS NULL")
+    List<Object[]> findFirstAvailableStartTimes(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Query("SELECT s.interviewer.id, s.startTime, s.id FROM InterviewSlot s " +
+           "WHERE s.interviewer.id IN :interviewerIds AND s.status = AVAILABLE " +
+           "AND s.startTime >= :from AND s.startTime < :to")
+    List<Object[]> findAvailableStartTimes(
+        @Param("interviewerIds") Collection<Long> interviewerIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Query("SELECT s.interviewer.id, s.startTime FROM InterviewSlot s " +
+           "WHERE s.interviewer.id IN :interviewerIds AND s.status = BOOKED " +
+           "AND s.startTime >= :from AND s.startTime < :to")
+    List<Object[]> findBookedStartTimes(
+        @Param("interviewerIds") Collection<Long> interviewerIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
     @Modifying
-    @Query("UPDATE InterviewSlot s SET s.status = 'BOOKED', s.candidateName = :candidateName, " +
+    @Query("UPDATE InterviewSlot s SET s.status = BOOKED, s.candidateName = :candidateName, " +
            "s.candidateEmail = :candidateEmail, s.bookedAt = :bookedAt " +
-           "WHERE s.id = :slotId AND s.status = 'AVAILABLE'")
+           "WHERE s.id = :slotId AND s.status = AVAILABLE")
     int bookSlot(@Param("slotId") Long slotId, 
                  @Param("candidateName") String candidateName,
                  @Param("candidateEmail") String candidateEmail,
                  @Param("bookedAt") LocalDateTime bookedAt);
     
+    // Takes the row locks for a bulk block up front so no booking can slip in between
+    // the outbox insert and the status update; the returned rows feed the audit trail
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s.id, s.status, s.candidateName, s.candidateEmail FROM InterviewSlot s " +
+           "WHERE s.interviewer.id = :interviewerId " +
+           "AND s.startTime >= :from AND s.startTime < :to " +
+           "AND s.status IN (AVAILABLE, BOOKED)")
+    List<Object[]> lockOpenSlotsInRange(
+        @Param("interviewerId") Long interviewerId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Modifying
+    @Query("UPDATE VERSIONED InterviewSlot s SET s.status = BLOCKED, s.candidateName = NULL, " +
+           "s.candidateEmail = NULL, s.bookedAt = NULL, s.updatedAt = :now " +
+           "WHERE s.interviewer.id = :interviewerId " +
+           "AND s.startTime >= :from AND s.startTime < :to " +
+           "AND s.status IN (AVAILABLE, BOOKED)")
+    int blockSlotsInRange(
+        @Param("interviewerId") Long interviewerId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("now") LocalDateTime now
+    );
+
+    @Query("SELECT s.startTime FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId " +
+           "AND s.startTime >= :from AND s.startTime <= :to")
+    List<LocalDateTime> findStartTimesInRange(
+        @Param("interviewerId") Long interviewerId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    // [startTime, endTime] of every slot starting in [from, to), in start order
+    @Query("SELECT s.startTime, s.endTime FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId " +
+           "AND s.startTime >= :from AND s.startTime < :to ORDER BY s.startTime ASC")
+    List<Object[]> findSlotTimesInRange(
+        @Param("interviewerId") Long interviewerId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Query("SELECT s.id FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId AND s.startTime = :startTime")
+    Optional<Long> findIdByInterviewerAndStartTime(
+        @Param("interviewerId") Long interviewerId,
+        @Param("startTime") LocalDateTime startTime
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s.id FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId AND s.startTime = :startTime")
+    Optional<Long> findIdByInterviewerAndStartTimeWithLock(
+        @Param("interviewerId") Long interviewerId,
+        @Param("startTime") LocalDateTime startTime
+    );
+
+    // Rows that shadow virtual slots; in virtual mode these are mostly bookings
+    @Query("SELECT s FROM InterviewSlot s JOIN FETCH s.interviewer " +
+           "WHERE s.startTime >= :from AND s.startTime < :to")
+    List<InterviewSlot> findAllStartingBetween(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Query("SELECT s FROM InterviewSlot s JOIN FETCH s.interviewer " +
+           "WHERE s.interviewer.id IN :interviewerIds AND s.startTime >= :from AND s.startTime < :to")
+    List<InterviewSlot> findAllStartingBetweenForInterviewers(
+        @Param("interviewerIds") Collection<Long> interviewerIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
     List<InterviewSlot> findByInterviewerIdAndStartTimeBetween(
         Long interviewerId, 
         LocalDateTime startTime, 
         LocalDateTime endTime
     );
+
+    @Query("SELECT s.id FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId ORDER BY s.id")
+    List<Long> findIdsByInterviewerId(@Param("interviewerId") Long interviewerId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM InterviewSlot s WHERE s.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
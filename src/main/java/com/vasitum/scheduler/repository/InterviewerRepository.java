@@ -2,28 +2,60 @@ package com.vasitum.scheduler.repository;
 
 import com.vasitum.scheduler.entity.Interviewer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InterviewerRepository extends JpaRepository<Interviewer, Long> {
     
+    // Includes interviewers awaiting purge, whose email is still taken
     Optional<Interviewer> findByEmail(String email);
+
+    Optional<Interviewer> findByIdAndDeletedAtIsNull(Long id);
+
+    List<Interviewer> findByDeletedAtIsNull();
+
+    List<Interviewer> findByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Interviewer i WHERE i.id = :id AND i.deletedAt IS NULL")
+    Optional<Interviewer> findByIdWithLock(@Param("id") Long id);
     
-    @Query("SELECT i FROM Interviewer i WHERE i.id = :interviewerId AND " +
+    @Query("SELECT i FROM Interviewer i WHERE i.id = :interviewerId AND i.deletedAt IS NULL AND " +
            "(SELECT COUNT(s) FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId " +
-           "AND s.status = 'BOOKED' AND s.startTime >= :weekStart AND s.startTime < :weekEnd) < i.maxInterviewsPerWeek")
+           "AND s.status = BOOKED AND s.startTime >= :weekStart AND s.startTime < :weekEnd) < i.maxInterviewsPerWeek")
     Optional<Interviewer> findInterviewerWithAvailableCapacity(
         @Param("interviewerId") Long interviewerId,
         @Param("weekStart") LocalDateTime weekStart,
         @Param("weekEnd") LocalDateTime weekEnd
     );
     
+    @Query("SELECT i.id, i.maxInterviewsPerWeek FROM Interviewer i WHERE i.deletedAt IS NULL")
+    List<Object[]> findAllCapacities();
+
+    @Query("SELECT i.email FROM Interviewer i WHERE i.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT i.email, i.id FROM Interviewer i WHERE i.email IN :emails")
+    List<Object[]> findIdsByEmails(@Param("emails") Collection<String> emails);
+
     @Query("SELECT i FROM Interviewer i JOIN i.availabilitySlots a WHERE a.isActive = true")
     List<Interviewer> findInterviewersWithActiveSlots();
+
+    @Query("SELECT i.id FROM Interviewer i WHERE i.deletedAt IS NOT NULL ORDER BY i.id")
+    List<Long> findDeletedIds();
+
+    // Bulk delete, no cascade: only run once every row referencing the interviewer is gone
+    @Modifying
+    @Query("DELETE FROM Interviewer i WHERE i.id = :id AND i.deletedAt IS NOT NULL")
+    int deletePurged(@Param("id") Long id);
 }
\ No newline at end of file
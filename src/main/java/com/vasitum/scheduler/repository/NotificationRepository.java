@@ -1,32 +1,114 @@
 package com.vasitum.scheduler.repository;
 
 import com.vasitum.scheduler.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     
-    List<Notification> findByStatusAndScheduledForBefore(
-        Notification.NotificationStatus status, 
-        LocalDateTime scheduledFor
-    );
-    
     List<Notification> findByRecipientEmailOrderByCreatedAtDesc(String recipientEmail);
     
     List<Notification> findByInterviewSlotId(Long interviewSlotId);
     
-    @Query("SELECT n FROM Notification n WHERE n.status = :status AND n.retryCount < :maxRetries")
-    List<Notification> findFailedNotificationsForRetry(
+    // Dispatch claims: candidate ids are read without locks, then taken with a conditional
+    // UPDATE that only succeeds for rows no other sender holds an unexpired lease on.
+    // Pending rows are due at scheduled_for, failed ones at next_attempt_at. Both page by
+    // (due time, id) after the cursor, which is the order of the (status, due time, id)
+    // index, so each chunk is a range scan of that index with no sort.
+    @Query("SELECT n.id, n.scheduledFor FROM Notification n WHERE n.status = 'PENDING' " +
+           "AND n.scheduledFor <= :now AND (n.leaseUntil IS NULL OR n.leaseUntil < :now) " +
+           "AND (n.scheduledFor > :afterTime OR (n.scheduledFor = :afterTime AND n.id > :afterId)) " +
+           "ORDER BY n.scheduledFor, n.id")
+    List<Object[]> findDuePending(
+        @Param("now") LocalDateTime now,
+        @Param("afterTime") LocalDateTime afterTime,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    @Query("SELECT n.id, n.nextAttemptAt FROM Notification n WHERE n.status = 'FAILED' " +
+           "AND n.nextAttemptAt <= :now AND (n.leaseUntil IS NULL OR n.leaseUntil < :now) " +
+           "AND (n.nextAttemptAt > :afterTime OR (n.nextAttemptAt = :afterTime AND n.id > :afterId)) " +
+           "ORDER BY n.nextAttemptAt, n.id")
+    List<Object[]> findDueRetries(
+        @Param("now") LocalDateTime now,
+        @Param("afterTime") LocalDateTime afterTime,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    // Rows that failed before next_attempt_at existed have it NULL and would never come due
+    // (id, retry count) of failed rows left without a next attempt that are still worth one:
+    // under the attempt limit, created since createdAfter and not for an interview that has
+    // already started. Paged by id after afterId.
+    @Query("SELECT n.id, COALESCE(n.retryCount, 0) FROM Notification n WHERE n.status = 'FAILED' " +
+           "AND n.nextAttemptAt IS NULL AND COALESCE(n.retryCount, 0) < :attemptLimit " +
+           "AND n.createdAt >= :createdAfter AND n.id > :afterId AND NOT EXISTS (" +
+           "SELECT s.id FROM InterviewSlot s WHERE s.id = n.interviewSlotId AND s.startTime <= :now) " +
+           "ORDER BY n.id")
+    List<Object[]> findLegacyRetries(
+        @Param("attemptLimit") int attemptLimit,
+        @Param("createdAfter") LocalDateTime createdAfter,
+        @Param("now") LocalDateTime now,
+        @Param("afterId") long afterId,
+        Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.claimedBy = :token, n.leaseUntil = :leaseUntil " +
+           "WHERE n.id IN :ids AND n.status = :status AND (n.leaseUntil IS NULL OR n.leaseUntil < :now) " +
+           "AND ((n.status = 'PENDING' AND n.scheduledFor <= :now) OR (n.status = 'FAILED' AND n.nextAttemptAt <= :now))")
+    int claim(
+        @Param("ids") Collection<Long> ids,
         @Param("status") Notification.NotificationStatus status,
-        @Param("maxRetries") Integer maxRetries
+        @Param("now") LocalDateTime now,
+        @Param("token") String token,
+        @Param("leaseUntil") LocalDateTime leaseUntil
     );
-    
+
+    // By primary key: claimed_by is only compared on the chunk's own rows
+    @Query("SELECT n FROM Notification n WHERE n.id IN :ids AND n.claimedBy = :token")
+    List<Notification> findClaimed(@Param("ids") Collection<Long> ids, @Param("token") String token);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.leaseUntil = :leaseUntil WHERE n.id IN :ids AND n.claimedBy = :token")
+    int renewLease(
+        @Param("ids") Collection<Long> ids,
+        @Param("token") String token,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'SENT', n.sentAt = :sentAt, n.nextAttemptAt = NULL, " +
+           "n.claimedBy = NULL, n.leaseUntil = NULL " +
+           "WHERE n.id IN :ids AND n.claimedBy = :token")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("sentAt") LocalDateTime sentAt);
+
+    @Query("SELECT n.id FROM Notification n " +
+           "WHERE n.interviewSlotId IN :slotIds AND n.type = 'INTERVIEW_REMINDER' AND n.status = 'PENDING'")
+    List<Long> findPendingReminderIds(@Param("slotIds") Collection<Long> slotIds);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = 'CANCELLED' WHERE n.id IN :ids AND n.status = 'PENDING'")
+    int cancelPending(@Param("ids") Collection<Long> ids);
+
+    // Reminders for the in-memory wheel: id and due time, paged in id order
+    @Query("SELECT n.id, n.scheduledFor FROM Notification n WHERE n.status = 'PENDING' " +
+           "AND n.type = 'INTERVIEW_REMINDER' AND n.scheduledFor < :until AND n.id > :afterId ORDER BY n.id")
+    List<Object[]> findPendingRemindersBefore(
+        @Param("until") LocalDateTime until,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.status = :status")
     Long countByStatus(@Param("status") Notification.NotificationStatus status);
 }
\ No newline at end of file
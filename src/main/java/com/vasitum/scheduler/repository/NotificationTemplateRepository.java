@@ -0,0 +1,17 @@
+package com.vasitum.scheduler.repository;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.entity.NotificationTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationTemplateRepository extends JpaRepository<NotificationTemplate, Long> {
+
+    Optional<NotificationTemplate> findByTypeAndVariant(
+        Notification.NotificationType type,
+        NotificationTemplate.Variant variant
+    );
+}
@@ -0,0 +1,62 @@
+package com.vasitum.scheduler.repository;
+
+import com.vasitum.scheduler.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Locked rows are skipped so relays on several nodes never pick up the same events.
+    // Held rows already belong to NotificationDigestService.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.heldAt IS NULL ORDER BY e.id ASC")
+    List<OutboxEvent> findOldest(Pageable pageable);
+
+    long countByHeldAtIsNull();
+
+    List<OutboxEvent> findByHeldAtIsNotNullOrderByIdAsc();
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.heldAt = :heldAt WHERE e.id IN :ids")
+    int markHeld(@Param("ids") Collection<Long> ids, @Param("heldAt") LocalDateTime heldAt);
+
+    // Rows already deleted by another node's digest are simply not returned
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id IN :ids ORDER BY e.id ASC")
+    List<OutboxEvent> findAllByIdWithLock(@Param("ids") Collection<Long> ids);
+
+    // One INSERT ... SELECT enqueues an event for every booking in the range
+    @Modifying
+    @Query("INSERT INTO OutboxEvent (eventType, interviewSlotId, interviewerId, interviewerName, " +
+           "recipientEmail, recipientName, startTime, createdAt) " +
+           "SELECT :eventType, s.id, i.id, i.name, " +
+           "s.candidateEmail, s.candidateName, s.startTime, :now " +
+           "FROM InterviewSlot s JOIN s.interviewer i " +
+           "WHERE i.id = :interviewerId AND s.startTime >= :from AND s.startTime < :to " +
+           "AND s.status = BOOKED")
+    int insertEventsForBookingsInRange(
+        @Param("eventType") OutboxEvent.EventType eventType,
+        @Param("interviewerId") Long interviewerId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,13 @@
+package com.vasitum.scheduler.repository;
+
+import com.vasitum.scheduler.entity.SlotAuditRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SlotAuditRecordRepository extends JpaRepository<SlotAuditRecord, Long> {
+
+    List<SlotAuditRecord> findBySlotIdOrderByIdAsc(Long slotId);
+}
@@ -0,0 +1,9 @@
+package com.vasitum.scheduler.repository;
+
+import com.vasitum.scheduler.entity.SlotHorizonProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SlotHorizonProgressRepository extends JpaRepository<SlotHorizonProgress, Long> {
+}
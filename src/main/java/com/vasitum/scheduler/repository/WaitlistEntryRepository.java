@@ -0,0 +1,49 @@
+package com.vasitum.scheduler.repository;
+
+import com.vasitum.scheduler.entity.WaitlistEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // idx_waitlist_interviewer_window range-scans this interviewer's entries whose window
+    // is still open at the slot's end and checks window_start from the index. The matches
+    // are sorted by id (oldest first); expired entries are purged, so the sort only covers
+    // live waiters. Takes no locks; the caller locks only the entry it picks.
+    @Query("SELECT w.id FROM WaitlistEntry w WHERE w.interviewer.id = :interviewerId " +
+           "AND w.windowStart <= :slotStart AND w.windowEnd >= :slotEnd " +
+           "AND w.candidateEmail <> :excludedEmail " +
+           "ORDER BY w.id ASC")
+    List<Long> findEligibleWaiterIds(
+        @Param("interviewerId") Long interviewerId,
+        @Param("slotStart") LocalDateTime slotStart,
+        @Param("slotEnd") LocalDateTime slotEnd,
+        @Param("excludedEmail") String excludedEmail,
+        Pageable pageable
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.id = :id")
+    Optional<WaitlistEntry> findByIdWithLock(@Param("id") Long id);
+
+    List<WaitlistEntry> findByCandidateEmailOrderByCreatedAtDesc(String candidateEmail);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.windowEnd < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.interviewer.id = :interviewerId")
+    int deleteByInterviewerId(@Param("interviewerId") Long interviewerId);
+}
@@ -0,0 +1,191 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.exception.AdmissionRejectedException;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class BookingAdmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingAdmissionService.class);
+
+    @Value("${app.booking.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.booking.admission.candidate.burst:3}")
+    private int candidateBurst;
+
+    @Value("${app.booking.admission.candidate.per-minute:6}")
+    private int candidatePerMinute;
+
+    @Value("${app.booking.admission.ip.burst:20}")
+    private int ipBurst;
+
+    @Value("${app.booking.admission.ip.per-minute:60}")
+    private int ipPerMinute;
+
+    @Value("${app.booking.admission.max-in-flight:32}")
+    private int maxInFlight;
+
+    @Value("${app.booking.admission.max-tracked-keys:10000}")
+    private int maxTrackedKeys;
+
+    @Value("${app.booking.admission.stripes:16}")
+    private int stripes;
+
+    private StripedBucketMap candidateBuckets;
+    private StripedBucketMap ipBuckets;
+    private Semaphore inFlight;
+
+    @PostConstruct
+    void init() {
+        candidateBuckets = new StripedBucketMap(stripes, maxTrackedKeys, candidateBurst, candidatePerMinute);
+        ipBuckets = new StripedBucketMap(stripes, maxTrackedKeys, ipBurst, ipPerMinute);
+        inFlight = new Semaphore(maxInFlight);
+    }
+
+    // Cheap checks first: both buckets are consulted before a DB connection or row lock
+    // is taken, and the in-flight permit is held until the booking call returns.
+    public Permit admit(String candidateEmail, String clientIp) {
+        if (!enabled) {
+            return Permit.NOOP;
+        }
+
+        long now = System.nanoTime();
+
+        if (clientIp != null) {
+            long waitNanos = ipBuckets.tryConsume(clientIp, now);
+            if (waitNanos > 0) {
+                logger.debug("Booking rejected for client {}: rate limit exceeded", clientIp);
+                throw new AdmissionRejectedException("Too many booking requests from this client", toRetryAfterSeconds(waitNanos));
+            }
+        }
+
+        if (candidateEmail != null) {
+            consumeCandidate(candidateEmail, now);
+        }
+
+        if (!inFlight.tryAcquire()) {
+            throw new AdmissionRejectedException("Booking service is busy, please retry shortly", 1);
+        }
+        return new Permit(inFlight);
+    }
+
+    // For requests whose candidate is only known from the database: call it under the
+    // permit admit(null, clientIp) returned, so a rejected client never gets that far
+    public void admitCandidate(String candidateEmail) {
+        if (enabled && candidateEmail != null) {
+            consumeCandidate(candidateEmail, System.nanoTime());
+        }
+    }
+
+    private void consumeCandidate(String candidateEmail, long now) {
+        long waitNanos = candidateBuckets.tryConsume(candidateEmail.trim().toLowerCase(Locale.ROOT), now);
+        if (waitNanos > 0) {
+            logger.debug("Booking rejected for candidate {}: rate limit exceeded", candidateEmail);
+            throw new AdmissionRejectedException("Too many booking requests for this candidate", toRetryAfterSeconds(waitNanos));
+        }
+    }
+
+    public int getInFlightBookings() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public static class Permit implements AutoCloseable {
+        static final Permit NOOP = new Permit(null);
+
+        private final Semaphore semaphore;
+        private boolean released;
+
+        Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public void close() {
+            if (semaphore != null && !released) {
+                released = true;
+                semaphore.release();
+            }
+        }
+    }
+
+    // Token buckets keyed by candidate email or client IP. Keys are spread over
+    // independently locked stripes, and each stripe evicts its least recently used
+    // bucket once full so the structure stays bounded under key churn.
+    static class StripedBucketMap {
+        private final Stripe[] stripes;
+        private final double capacity;
+        private final double refillPerNano;
+
+        StripedBucketMap(int stripeCount, int maxKeys, int burst, int perMinute) {
+            this.stripes = new Stripe[stripeCount];
+            int perStripe = Math.max(1, maxKeys / stripeCount);
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe(perStripe);
+            }
+            this.capacity = burst;
+            this.refillPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        }
+
+        // Returns 0 when a token was taken, otherwise the nanos until one is available
+        long tryConsume(String key, long now) {
+            Stripe stripe = stripes[(key.hashCode() & 0x7fffffff) % stripes.length];
+            synchronized (stripe) {
+                TokenBucket bucket = stripe.get(key);
+                if (bucket == null) {
+                    bucket = new TokenBucket(capacity, now);
+                    stripe.put(key, bucket);
+                }
+                return bucket.tryConsume(now, capacity, refillPerNano);
+            }
+        }
+    }
+
+    private static class Stripe extends LinkedHashMap<String, TokenBucket> {
+        private final int maxEntries;
+
+        Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private static class TokenBucket {
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        long tryConsume(long now, double capacity, double refillPerNano) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / refillPerNano);
+        }
+    }
+}
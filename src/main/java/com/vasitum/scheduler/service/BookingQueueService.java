@@ -0,0 +1,236 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.BookSlotRequest;
+import com.vasitum.scheduler.dto.BookingOutcome;
+import com.vasitum.scheduler.dto.BookingTicketDto;
+import com.vasitum.scheduler.dto.InterviewSlotDto;
+import com.vasitum.scheduler.exception.AdmissionRejectedException;
+import com.vasitum.scheduler.exception.ResourceNotFoundException;
+import com.vasitum.scheduler.exception.SlotBookingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class BookingQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingQueueService.class);
+
+    @Autowired
+    private InterviewSlotService interviewSlotService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.booking.queue.capacity:10000}")
+    private int capacity;
+
+    @Value("${app.booking.queue.workers:2}")
+    private int workerCount;
+
+    @Value("${app.booking.queue.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${app.booking.queue.ticket-ttl-minutes:30}")
+    private long ticketTtlMinutes;
+
+    private BlockingQueue<BookingTicket> queue;
+    private final Map<String, BookingTicket> tickets = new ConcurrentHashMap<>();
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    private Timer timeToDecision;
+    private DistributionSummary batchSize;
+    private Counter bookedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+
+        meterRegistry.gauge("booking.queue.depth", queue, BlockingQueue::size);
+        timeToDecision = Timer.builder("booking.queue.time_to_decision")
+            .description("Time from enqueue until a booking ticket is decided")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        batchSize = DistributionSummary.builder("booking.queue.batch_size")
+            .description("Bookings decided per transaction")
+            .register(meterRegistry);
+        bookedCounter = meterRegistry.counter("booking.queue.decisions", "outcome", "booked");
+        rejectedCounter = meterRegistry.counter("booking.queue.decisions", "outcome", "rejected");
+
+        running = true;
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "booking-queue-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::drainLoop);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // Workers keep draining whatever was accepted before they exit
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Booking queue workers did not finish; {} tickets left undecided", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    public BookingTicketDto submit(BookSlotRequest request) {
+        if (!running) {
+            throw new AdmissionRejectedException("Booking queue is shutting down", 5);
+        }
+
+        BookingTicket ticket = new BookingTicket(UUID.randomUUID().toString(), request);
+        tickets.put(ticket.id, ticket);
+        if (!queue.offer(ticket)) {
+            tickets.remove(ticket.id);
+            throw new AdmissionRejectedException("Booking queue is full, please retry shortly", 1);
+        }
+        return ticket.toDto();
+    }
+
+    public BookingTicketDto getTicket(String ticketId) {
+        BookingTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("Booking ticket not found");
+        }
+        return ticket.toDto();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    // Decided tickets are kept for polling for a while, then dropped
+    @Scheduled(fixedRate = 60000)
+    public void evictExpiredTickets() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(ticketTtlMinutes);
+        tickets.values().removeIf(ticket -> ticket.decidedAt != null && ticket.decidedAt.isBefore(cutoff));
+    }
+
+    private void drainLoop() {
+        List<BookingTicket> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                BookingTicket first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                decide(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Booking queue worker failed on a batch of {}: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void decide(List<BookingTicket> batch) {
+        List<BookSlotRequest> requests = new ArrayList<>(batch.size());
+        batch.forEach(ticket -> requests.add(ticket.request));
+
+        List<BookingOutcome> outcomes;
+        try {
+            outcomes = interviewSlotService.bookSlots(requests);
+        } catch (Exception e) {
+            // A failed group commit (e.g. lock timeout) must not fail every ticket in it
+            logger.warn("Group commit of {} bookings failed, deciding individually: {}", batch.size(), e.getMessage());
+            outcomes = new ArrayList<>(batch.size());
+            for (BookSlotRequest request : requests) {
+                outcomes.add(bookIndividually(request));
+            }
+        }
+
+        batchSize.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), outcomes.get(i));
+        }
+    }
+
+    private BookingOutcome bookIndividually(BookSlotRequest request) {
+        try {
+            return BookingOutcome.booked(interviewSlotService.bookSlot(request));
+        } catch (ResourceNotFoundException e) {
+            return BookingOutcome.rejected("RESOURCE_NOT_FOUND", e.getMessage());
+        } catch (SlotBookingException e) {
+            return BookingOutcome.rejected("SLOT_BOOKING_ERROR", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error booking slot {} from queue: {}", request.getSlotId(), e.getMessage());
+            return BookingOutcome.rejected("INTERNAL_ERROR", "An unexpected error occurred");
+        }
+    }
+
+    private void complete(BookingTicket ticket, BookingOutcome outcome) {
+        ticket.decidedAt = LocalDateTime.now();
+        ticket.outcome = outcome;
+        timeToDecision.record(System.nanoTime() - ticket.enqueuedNanos, TimeUnit.NANOSECONDS);
+        (outcome.isBooked() ? bookedCounter : rejectedCounter).increment();
+    }
+
+    private static class BookingTicket {
+        final String id;
+        final BookSlotRequest request;
+        final LocalDateTime queuedAt = LocalDateTime.now();
+        final long enqueuedNanos = System.nanoTime();
+        volatile BookingOutcome outcome;
+        volatile LocalDateTime decidedAt;
+
+        BookingTicket(String id, BookSlotRequest request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        BookingTicketDto toDto() {
+            BookingOutcome decided = outcome;
+            BookingTicketDto.TicketStatus status = decided == null ? BookingTicketDto.TicketStatus.QUEUED
+                : decided.isBooked() ? BookingTicketDto.TicketStatus.BOOKED
+                : BookingTicketDto.TicketStatus.REJECTED;
+            InterviewSlotDto slot = decided != null ? decided.getSlot() : null;
+            return new BookingTicketDto(
+                id,
+                status,
+                request.getSlotId(),
+                request.getCandidateEmail(),
+                slot,
+                decided != null ? decided.getErrorCode() : null,
+                decided != null ? decided.getMessage() : null,
+                queuedAt,
+                decided != null ? decidedAt : null
+            );
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.vasitum.scheduler.service;
+
+// One interviewer-day as 96 fifteen-minute cells packed into two longs: cells 0-63 in
+// low, 64-95 in the low 32 bits of high. All operations work in place so callers can
+// reuse a few instances across a whole generation run without allocating.
+public final class DayBitmap {
+
+    public static final int CELL_MINUTES = 15;
+    public static final int CELLS = 24 * 60 / CELL_MINUTES;
+
+    private static final long HIGH_MASK = (1L << (CELLS - 64)) - 1;
+
+    private long low;
+    private long high;
+
+    public void clear() {
+        low = 0;
+        high = 0;
+    }
+
+    public boolean isEmpty() {
+        return low == 0 && high == 0;
+    }
+
+    public boolean get(int cell) {
+        return cell < 64 ? (low & (1L << cell)) != 0 : (high & (1L << (cell - 64))) != 0;
+    }
+
+    public void set(int cell) {
+        if (cell < 64) {
+            low |= 1L << cell;
+        } else {
+            high |= 1L << (cell - 64);
+        }
+    }
+
+    // Sets cells [from, to), clamped to the day
+    public void set(int from, int to) {
+        from = Math.max(from, 0);
+        to = Math.min(to, CELLS);
+        if (from >= to) {
+            return;
+        }
+        low |= rangeMask(from, Math.min(to, 64));
+        if (to > 64) {
+            high |= rangeMask(Math.max(from, 64) - 64, to - 64);
+        }
+    }
+
+    public void copyFrom(DayBitmap other) {
+        low = other.low;
+        high = other.high;
+    }
+
+    public void or(DayBitmap other) {
+        low |= other.low;
+        high |= other.high;
+    }
+
+    public void and(DayBitmap other) {
+        low &= other.low;
+        high &= other.high;
+    }
+
+    public void andNot(DayBitmap other) {
+        low &= ~other.low;
+        high &= ~other.high;
+    }
+
+    public boolean intersects(DayBitmap other) {
+        return (low & other.low) != 0 || (high & other.high) != 0;
+    }
+
+    // this |= other moved by shift cells (positive towards later cells)
+    public void orShifted(DayBitmap other, int shift) {
+        long shiftedLow = shiftedLow(other, shift);
+        long shiftedHigh = shiftedHigh(other, shift);
+        low |= shiftedLow;
+        high |= shiftedHigh;
+    }
+
+    // this &= other moved by shift cells (positive towards later cells)
+    public void andShifted(DayBitmap other, int shift) {
+        long shiftedLow = shiftedLow(other, shift);
+        long shiftedHigh = shiftedHigh(other, shift);
+        low &= shiftedLow;
+        high &= shiftedHigh;
+    }
+
+    // First set cell at or after from, or -1
+    public int nextSetBit(int from) {
+        if (from < 64) {
+            long word = low & (-1L << Math.max(from, 0));
+            if (word != 0) {
+                return Long.numberOfTrailingZeros(word);
+            }
+            from = 64;
+        }
+        if (from >= CELLS) {
+            return -1;
+        }
+        long word = high & (-1L << (from - 64));
+        return word != 0 ? 64 + Long.numberOfTrailingZeros(word) : -1;
+    }
+
+    public int cardinality() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    // Cell containing the given minute of the day
+    public static int cellFloor(int minuteOfDay) {
+        return minuteOfDay / CELL_MINUTES;
+    }
+
+    // First cell starting at or after the given minute of the day
+    public static int cellCeil(int minuteOfDay) {
+        return (minuteOfDay + CELL_MINUTES - 1) / CELL_MINUTES;
+    }
+
+    private static long rangeMask(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        long upTo = to == 64 ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+
+    private static long shiftedLow(DayBitmap source, int shift) {
+        if (shift == 0) {
+            return source.low;
+        }
+        if (shift > 0) {
+            return shift >= 64 ? 0 : source.low << shift;
+        }
+        int n = -shift;
+        if (n >= 64) {
+            return n >= CELLS ? 0 : source.high >>> (n - 64);
+        }
+        return (source.low >>> n) | (source.high << (64 - n));
+    }
+
+    private static long shiftedHigh(DayBitmap source, int shift) {
+        if (shift == 0) {
+            return source.high;
+        }
+        if (shift < 0) {
+            int n = -shift;
+            return n >= 64 ? 0 : source.high >>> n;
+        }
+        if (shift >= 64) {
+            return shift >= CELLS ? 0 : (source.low << (shift - 64)) & HIGH_MASK;
+        }
+        return ((source.high << shift) | (source.low >>> (64 - shift))) & HIGH_MASK;
+    }
+}
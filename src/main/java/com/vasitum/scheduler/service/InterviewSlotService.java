@@ -1,10 +1,14 @@
 package com.vasitum.scheduler.service;
 
+import com.vasitum.scheduler.dto.BookAnyRequest;
 import com.vasitum.scheduler.dto.BookSlotRequest;
+import com.vasitum.scheduler.dto.BookingOutcome;
+import com.vasitum.scheduler.dto.BulkBlockResult;
 import com.vasitum.scheduler.dto.InterviewSlotDto;
 import com.vasitum.scheduler.dto.PaginatedResponse;
 import com.vasitum.scheduler.entity.InterviewSlot;
 import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.SlotAuditRecord.AuditAction;
 import com.vasitum.scheduler.exception.ResourceNotFoundException;
 import com.vasitum.scheduler.exception.SlotBookingException;
 import com.vasitum.scheduler.repository.InterviewSlotRepository;
@@ -16,9 +20,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,10 +42,25 @@ public class InterviewSlotService {
     private InterviewerRepository interviewerRepository;
 
     @Autowired
-    private NotificationService notificationService;
+    private OutboxService outboxService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private InterviewerLoadTracker loadTracker;
+
+    @Autowired
+    private SlotAuditService auditService;
+
+    @Autowired
+    private VirtualSlotService virtualSlotService;
 
     @Transactional(readOnly = true)
     public PaginatedResponse<InterviewSlotDto> getAvailableSlots(String cursor, int limit) {
+        if (virtualSlotService.isEnabled()) {
+            return getAvailableVirtualSlots(cursor, limit);
+        }
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime twoWeeksFromNow = now.plusWeeks(2);
         
@@ -69,11 +94,96 @@ public class InterviewSlotService {
         );
     }
 
+    // Virtual mode has no row ids to page by, so pages are keyed on (start, interviewer, id)
+    // and built one day at a time until the page is full or the horizon is reached.
+    private PaginatedResponse<InterviewSlotDto> getAvailableVirtualSlots(String cursor, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime twoWeeksFromNow = now.plusWeeks(2);
+
+        InterviewSlot after = decodeVirtualCursor(cursor);
+        LocalDateTime from = after != null && after.getStartTime().isAfter(now) ? after.getStartTime() : now;
+
+        List<InterviewSlot> slots = new ArrayList<>();
+        for (LocalDateTime dayFrom = from; dayFrom.isBefore(twoWeeksFromNow) && slots.size() <= limit; ) {
+            LocalDateTime dayTo = dayFrom.toLocalDate().plusDays(1).atStartOfDay();
+            if (dayTo.isAfter(twoWeeksFromNow)) {
+                dayTo = twoWeeksFromNow;
+            }
+            for (InterviewSlot slot : virtualSlotService.findOpenSlots(null, dayFrom, dayTo)) {
+                if (after == null || VirtualSlotService.START_ORDER.compare(slot, after) > 0) {
+                    slots.add(slot);
+                }
+            }
+            dayFrom = dayTo;
+        }
+
+        boolean hasNext = slots.size() > limit;
+        if (hasNext) {
+            slots = slots.subList(0, limit);
+        }
+
+        List<InterviewSlotDto> slotDtos = slots.stream()
+            .map(InterviewSlotDto::new)
+            .collect(Collectors.toList());
+
+        String nextCursor = hasNext && !slots.isEmpty() ? encodeVirtualCursor(slots.get(slots.size() - 1)) : null;
+        return new PaginatedResponse<>(
+            slotDtos,
+            nextCursor,
+            after != null ? cursor : null,
+            hasNext,
+            after != null,
+            slotDtos.size()
+        );
+    }
+
     public InterviewSlotDto bookSlot(BookSlotRequest request) {
         // Use pessimistic locking to prevent race conditions
-        InterviewSlot slot = interviewSlotRepository.findByIdWithLock(request.getSlotId())
+        InterviewSlot slot = interviewSlotRepository.findByIdWithLock(resolveSlotId(request.getSlotId()))
             .orElseThrow(() -> new ResourceNotFoundException("Interview slot not found"));
 
+        return new InterviewSlotDto(book(slot, request.getCandidateName(), request.getCandidateEmail()));
+    }
+
+    // Books whichever interviewer is free at the requested time and has the most weekly
+    // capacity left. The load tracker only orders the candidates; each attempt is still
+    // checked against the database, and a lost race moves on to the next interviewer.
+    public InterviewSlotDto bookAnyInterviewer(BookAnyRequest request) {
+        List<InterviewSlot> candidates = virtualSlotService.isEnabled()
+            ? virtualSlotService.findOpenSlots(null, request.getStartTime(), request.getStartTime().plusSeconds(1))
+            : interviewSlotRepository.findAvailableStartingAt(request.getStartTime());
+        Map<Long, InterviewSlot> slotByInterviewer = new HashMap<>();
+        for (InterviewSlot slot : candidates) {
+            slotByInterviewer.putIfAbsent(slot.getInterviewer().getId(), slot);
+        }
+        if (slotByInterviewer.isEmpty()) {
+            throw new SlotBookingException("No interviewer is available at the requested time");
+        }
+
+        // Ranked first, then materialized and locked one at a time, so a virtual-mode call
+        // inserts a row only for the interviewers it actually tries. Concurrent requests
+        // share the tracker's ranking and so take the locks in the same order.
+        for (Long interviewerId : loadTracker.rankByRemainingCapacity(slotByInterviewer.keySet(), request.getStartTime())) {
+            Optional<InterviewSlot> slot;
+            try {
+                slot = interviewSlotRepository.findByIdWithLock(resolveSlotId(slotByInterviewer.get(interviewerId).getId()));
+            } catch (ResourceNotFoundException e) {
+                // The availability rule changed since the view was built
+                continue;
+            }
+            if (slot.isEmpty()) {
+                continue;
+            }
+            try {
+                return new InterviewSlotDto(book(slot.get(), request.getCandidateName(), request.getCandidateEmail()));
+            } catch (SlotBookingException e) {
+                // Taken or full since the view was built; try the next least-loaded interviewer
+            }
+        }
+        throw new SlotBookingException("All interviewers available at the requested time are fully booked this week");
+    }
+
+    private InterviewSlot book(InterviewSlot slot, String candidateName, String candidateEmail) {
         // Check if slot is still available
         if (slot.getStatus() != InterviewSlot.SlotStatus.AVAILABLE) {
             throw new SlotBookingException("Slot is no longer available");
@@ -85,30 +195,120 @@ public class InterviewSlotService {
         }
 
         // Check interviewer's weekly capacity
-        LocalDateTime weekStart = slot.getStartTime().truncatedTo(ChronoUnit.DAYS)
-            .with(java.time.DayOfWeek.MONDAY);
-        LocalDateTime weekEnd = weekStart.plusWeeks(1);
-
-        List<InterviewSlot> bookedSlotsThisWeek = interviewSlotRepository
-            .findBookedSlotsForWeek(slot.getInterviewer().getId(), weekStart, weekEnd);
-
-        if (bookedSlotsThisWeek.size() >= slot.getInterviewer().getMaxInterviewsPerWeek()) {
+        if (!hasWeeklyCapacity(slot)) {
             throw new SlotBookingException("Interviewer has reached maximum interviews for this week");
         }
 
         // Book the slot
+        SlotAuditService.Snapshot before = SlotAuditService.snapshot(slot);
         slot.setStatus(InterviewSlot.SlotStatus.BOOKED);
-        slot.setCandidateName(request.getCandidateName());
-        slot.setCandidateEmail(request.getCandidateEmail());
+        slot.setCandidateName(candidateName);
+        slot.setCandidateEmail(candidateEmail);
         slot.setBookedAt(LocalDateTime.now());
 
         slot = interviewSlotRepository.save(slot);
         
-        // Send booking confirmation and schedule reminder
-        notificationService.sendBookingConfirmation(slot);
-        notificationService.scheduleInterviewReminder(slot);
+        // Booking confirmation and reminder are relayed from the outbox after commit
+        outboxService.recordSlotBooked(slot);
+        loadTracker.recordBooked(slot.getInterviewer().getId(), slot.getStartTime());
+        auditService.record(AuditAction.BOOKED, slot.getId(), before, SlotAuditService.snapshot(slot));
         
-        return new InterviewSlotDto(slot);
+        return slot;
+    }
+
+    // Group commit: decides a whole batch of bookings under one transaction with the same
+    // rules as bookSlot, using one locking read for the slots and one read for weekly load.
+    public List<BookingOutcome> bookSlots(List<BookSlotRequest> requests) {
+        // Virtual ids are materialized up front; ones no rule covers map to no slot
+        Map<Long, Long> resolvedIds = new HashMap<>();
+        for (BookSlotRequest request : requests) {
+            Long slotId = request.getSlotId();
+            if (!resolvedIds.containsKey(slotId)) {
+                try {
+                    resolvedIds.put(slotId, resolveSlotId(slotId));
+                } catch (ResourceNotFoundException e) {
+                    resolvedIds.put(slotId, null);
+                }
+            }
+        }
+        Set<Long> slotIds = resolvedIds.values().stream()
+            .filter(id -> id != null)
+            .collect(Collectors.toCollection(TreeSet::new));
+
+        Map<Long, InterviewSlot> slotsById = new HashMap<>();
+        for (InterviewSlot slot : interviewSlotRepository.findAllByIdWithLock(slotIds)) {
+            slotsById.put(slot.getId(), slot);
+        }
+
+        Map<Long, Interviewer> interviewers = new HashMap<>();
+        LocalDateTime rangeStart = null;
+        LocalDateTime rangeEnd = null;
+        for (InterviewSlot slot : slotsById.values()) {
+            interviewers.put(slot.getInterviewer().getId(), null);
+            LocalDateTime weekStart = weekStartOf(slot.getStartTime());
+            if (rangeStart == null || weekStart.isBefore(rangeStart)) rangeStart = weekStart;
+            if (rangeEnd == null || weekStart.plusWeeks(1).isAfter(rangeEnd)) rangeEnd = weekStart.plusWeeks(1);
+        }
+
+        // Weekly booked counts keyed by interviewer and week start
+        Map<Long, Map<LocalDateTime, Integer>> weeklyLoad = new HashMap<>();
+        if (!interviewers.isEmpty()) {
+            interviewerRepository.findAllById(interviewers.keySet())
+                .forEach(interviewer -> interviewers.put(interviewer.getId(), interviewer));
+            for (Object[] row : interviewSlotRepository.findBookedStartTimes(interviewers.keySet(), rangeStart, rangeEnd)) {
+                weeklyLoad.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                    .merge(weekStartOf((LocalDateTime) row[1]), 1, Integer::sum);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingOutcome> outcomes = new ArrayList<>(requests.size());
+        List<InterviewSlot> booked = new ArrayList<>();
+
+        for (BookSlotRequest request : requests) {
+            Long slotId = resolvedIds.get(request.getSlotId());
+            InterviewSlot slot = slotId != null ? slotsById.get(slotId) : null;
+            if (slot == null) {
+                outcomes.add(BookingOutcome.rejected("RESOURCE_NOT_FOUND", "Interview slot not found"));
+                continue;
+            }
+            if (slot.getStatus() != InterviewSlot.SlotStatus.AVAILABLE) {
+                outcomes.add(BookingOutcome.rejected("SLOT_BOOKING_ERROR", "Slot is no longer available"));
+                continue;
+            }
+            if (slot.getStartTime().isBefore(now)) {
+                outcomes.add(BookingOutcome.rejected("SLOT_BOOKING_ERROR", "Cannot book past slots"));
+                continue;
+            }
+
+            Interviewer interviewer = interviewers.get(slot.getInterviewer().getId());
+            Map<LocalDateTime, Integer> load = weeklyLoad.computeIfAbsent(interviewer.getId(), id -> new HashMap<>());
+            LocalDateTime weekStart = weekStartOf(slot.getStartTime());
+            if (load.getOrDefault(weekStart, 0) >= interviewer.getMaxInterviewsPerWeek()) {
+                outcomes.add(BookingOutcome.rejected("SLOT_BOOKING_ERROR",
+                    "Interviewer has reached maximum interviews for this week"));
+                continue;
+            }
+
+            SlotAuditService.Snapshot before = SlotAuditService.snapshot(slot);
+            slot.setStatus(InterviewSlot.SlotStatus.BOOKED);
+            slot.setCandidateName(request.getCandidateName());
+            slot.setCandidateEmail(request.getCandidateEmail());
+            slot.setBookedAt(now);
+            load.merge(weekStart, 1, Integer::sum);
+            auditService.record(AuditAction.BOOKED, slot.getId(), before, SlotAuditService.snapshot(slot));
+
+            booked.add(slot);
+            outcomes.add(BookingOutcome.booked(new InterviewSlotDto(slot)));
+        }
+
+        // Dirty slots and outbox events are flushed as JDBC batches at commit
+        for (InterviewSlot slot : booked) {
+            outboxService.recordSlotBooked(slot);
+            loadTracker.recordBooked(slot.getInterviewer().getId(), slot.getStartTime());
+        }
+
+        return outcomes;
     }
 
     public InterviewSlotDto updateSlot(Long slotId, BookSlotRequest request) {
@@ -119,13 +319,81 @@ public class InterviewSlotService {
             throw new SlotBookingException("Only booked slots can be updated");
         }
 
+        SlotAuditService.Snapshot before = SlotAuditService.snapshot(slot);
         slot.setCandidateName(request.getCandidateName());
         slot.setCandidateEmail(request.getCandidateEmail());
 
         slot = interviewSlotRepository.save(slot);
+        auditService.record(AuditAction.UPDATED, slot.getId(), before, SlotAuditService.snapshot(slot));
         return new InterviewSlotDto(slot);
     }
 
+    // Moves a booking to another slot in one transaction: both rows are locked in id order,
+    // capacity is checked for the target week, and a single BOOKING_UPDATED event replaces
+    // the cancellation and confirmation emails (the relay also moves the pending reminder).
+    public InterviewSlotDto rescheduleSlot(Long slotId, Long targetSlotId) {
+        if (slotId.equals(targetSlotId)) {
+            throw new IllegalArgumentException("Target slot must differ from the booked slot");
+        }
+        targetSlotId = resolveSlotId(targetSlotId);
+
+        Map<Long, InterviewSlot> locked = new HashMap<>();
+        for (InterviewSlot slot : interviewSlotRepository.findAllByIdWithLock(List.of(slotId, targetSlotId))) {
+            locked.put(slot.getId(), slot);
+        }
+        InterviewSlot source = locked.get(slotId);
+        InterviewSlot target = locked.get(targetSlotId);
+        if (source == null || target == null) {
+            throw new ResourceNotFoundException("Interview slot not found");
+        }
+
+        if (source.getStatus() != InterviewSlot.SlotStatus.BOOKED) {
+            throw new SlotBookingException("Only booked slots can be rescheduled");
+        }
+        if (source.getStartTime().isBefore(LocalDateTime.now())) {
+            throw new SlotBookingException("Cannot reschedule a past interview");
+        }
+        if (target.getStatus() != InterviewSlot.SlotStatus.AVAILABLE) {
+            throw new SlotBookingException("Slot is no longer available");
+        }
+        if (target.getStartTime().isBefore(LocalDateTime.now())) {
+            throw new SlotBookingException("Cannot book past slots");
+        }
+
+        // Moving within the same interviewer's week leaves their load unchanged
+        boolean sameWeek = source.getInterviewer().getId().equals(target.getInterviewer().getId())
+            && weekStartOf(source.getStartTime()).equals(weekStartOf(target.getStartTime()));
+        if (!sameWeek && !hasWeeklyCapacity(target)) {
+            throw new SlotBookingException("Interviewer has reached maximum interviews for this week");
+        }
+
+        SlotAuditService.Snapshot sourceBefore = SlotAuditService.snapshot(source);
+        SlotAuditService.Snapshot targetBefore = SlotAuditService.snapshot(target);
+        target.setStatus(InterviewSlot.SlotStatus.BOOKED);
+        target.setCandidateName(source.getCandidateName());
+        target.setCandidateEmail(source.getCandidateEmail());
+        target.setBookedAt(LocalDateTime.now());
+
+        outboxService.recordBookingMoved(source, target);
+        loadTracker.recordReleased(source.getInterviewer().getId(), source.getStartTime());
+        loadTracker.recordBooked(target.getInterviewer().getId(), target.getStartTime());
+
+        String movedEmail = source.getCandidateEmail();
+        source.setStatus(InterviewSlot.SlotStatus.AVAILABLE);
+        source.setCandidateName(null);
+        source.setCandidateEmail(null);
+        source.setBookedAt(null);
+
+        target = interviewSlotRepository.save(target);
+        source = interviewSlotRepository.save(source);
+        auditService.record(AuditAction.RESCHEDULED, source.getId(), sourceBefore, SlotAuditService.snapshot(source));
+        auditService.record(AuditAction.RESCHEDULED, target.getId(), targetBefore, SlotAuditService.snapshot(target));
+
+        backfillFromWaitlist(source, movedEmail);
+
+        return new InterviewSlotDto(target);
+    }
+
     public void cancelSlot(Long slotId) {
         InterviewSlot slot = interviewSlotRepository.findByIdWithLock(slotId)
             .orElseThrow(() -> new ResourceNotFoundException("Interview slot not found"));
@@ -134,19 +402,114 @@ public class InterviewSlotService {
             throw new SlotBookingException("Only booked slots can be cancelled");
         }
 
-        // Send cancellation notice before clearing candidate info
-        notificationService.sendCancellationNotice(slot);
+        // Record cancellation notice before clearing candidate info
+        outboxService.recordSlotCancelled(slot);
+        loadTracker.recordReleased(slot.getInterviewer().getId(), slot.getStartTime());
 
+        SlotAuditService.Snapshot before = SlotAuditService.snapshot(slot);
+        String cancelledEmail = slot.getCandidateEmail();
         slot.setStatus(InterviewSlot.SlotStatus.AVAILABLE);
         slot.setCandidateName(null);
         slot.setCandidateEmail(null);
         slot.setBookedAt(null);
 
-        interviewSlotRepository.save(slot);
+        slot = interviewSlotRepository.save(slot);
+        auditService.record(AuditAction.CANCELLED, slot.getId(), before, SlotAuditService.snapshot(slot));
+
+        // Hand the freed slot to the first eligible waiter while we still hold the row lock
+        backfillFromWaitlist(slot, cancelledEmail);
+    }
+
+    private void backfillFromWaitlist(InterviewSlot slot, String cancelledEmail) {
+        if (slot.getStartTime().isBefore(LocalDateTime.now()) || !hasWeeklyCapacity(slot)) {
+            return;
+        }
+
+        waitlistService.claimNextWaiter(slot, cancelledEmail).ifPresent(waiter -> {
+            SlotAuditService.Snapshot before = SlotAuditService.snapshot(slot);
+            slot.setStatus(InterviewSlot.SlotStatus.BOOKED);
+            slot.setCandidateName(waiter.getCandidateName());
+            slot.setCandidateEmail(waiter.getCandidateEmail());
+            slot.setBookedAt(LocalDateTime.now());
+
+            InterviewSlot booked = interviewSlotRepository.save(slot);
+            outboxService.recordSlotBooked(booked);
+            loadTracker.recordBooked(booked.getInterviewer().getId(), booked.getStartTime());
+            auditService.record(AuditAction.BOOKED, booked.getId(), before, SlotAuditService.snapshot(booked));
+        });
+    }
+
+    private static LocalDateTime weekStartOf(LocalDateTime time) {
+        return InterviewerLoadTracker.weekStartOf(time);
+    }
+
+    private boolean hasWeeklyCapacity(InterviewSlot slot) {
+        LocalDateTime weekStart = weekStartOf(slot.getStartTime());
+        LocalDateTime weekEnd = weekStart.plusWeeks(1);
+
+        List<InterviewSlot> bookedSlotsThisWeek = interviewSlotRepository
+            .findBookedSlotsForWeek(slot.getInterviewer().getId(), weekStart, weekEnd);
+
+        return bookedSlotsThisWeek.size() < slot.getInterviewer().getMaxInterviewsPerWeek();
+    }
+
+    // Cancels every booking and blocks every open slot of an interviewer in [from, to) with
+    // a fixed number of statements: lock, one INSERT ... SELECT of cancellation events and
+    // one UPDATE, however many slots are affected.
+    public BulkBlockResult blockInterviewerRange(Long interviewerId, LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("Range end must be after range start");
+        }
+        if (interviewerRepository.findByIdAndDeletedAtIsNull(interviewerId).isEmpty()) {
+            throw new ResourceNotFoundException("Interviewer not found");
+        }
+
+        // Rule hours never materialized would otherwise stay bookable as virtual slots
+        int blockedVirtual = virtualSlotService.isEnabled()
+            ? virtualSlotService.materializeRange(interviewerId, from, to, InterviewSlot.SlotStatus.BLOCKED)
+            : 0;
+
+        int[] cancelledAndAffected = blockMaterializedRange(interviewerId, from, to);
+        int cancelled = cancelledAndAffected[0];
+        return new BulkBlockResult(interviewerId, from, to, cancelled,
+            cancelledAndAffected[1] - cancelled + blockedVirtual);
+    }
+
+    // Used when an interviewer is deleted: every future booking is cancelled and every future
+    // open slot blocked with the same fixed statements as a range block. The caller has already
+    // deactivated the rules, so there are no virtual slots left to block.
+    public int closeFutureSlots(Long interviewerId) {
+        LocalDateTime now = LocalDateTime.now();
+        return blockMaterializedRange(interviewerId, now, now.plusYears(10))[0];
+    }
+
+    // Returns the number of bookings cancelled and of slots changed
+    private int[] blockMaterializedRange(Long interviewerId, LocalDateTime from, LocalDateTime to) {
+        List<Object[]> lockedSlots = interviewSlotRepository.lockOpenSlotsInRange(interviewerId, from, to);
+        int cancelled = outboxService.recordCancellationsForRange(interviewerId, from, to);
+        int affected = interviewSlotRepository.blockSlotsInRange(interviewerId, from, to, LocalDateTime.now());
+        loadTracker.invalidate();
+
+        SlotAuditService.Snapshot blocked = new SlotAuditService.Snapshot(InterviewSlot.SlotStatus.BLOCKED, null, null);
+        for (Object[] row : lockedSlots) {
+            SlotAuditService.Snapshot before = new SlotAuditService.Snapshot(
+                (InterviewSlot.SlotStatus) row[1], (String) row[2], (String) row[3]);
+            auditService.record(AuditAction.BLOCKED, (Long) row[0], before, blocked);
+        }
+        return new int[]{cancelled, affected};
+    }
+
+    // Who holds the booking, for admission control; null when the slot is not booked
+    @Transactional(readOnly = true)
+    public String getBookedCandidateEmail(Long slotId) {
+        return interviewSlotRepository.findCandidateEmailById(slotId).orElse(null);
     }
 
     @Transactional(readOnly = true)
     public InterviewSlotDto getSlot(Long slotId) {
+        if (virtualSlotService.isEnabled() && VirtualSlotService.isVirtualId(slotId)) {
+            return new InterviewSlotDto(virtualSlotService.findSlot(slotId));
+        }
         InterviewSlot slot = interviewSlotRepository.findById(slotId)
             .orElseThrow(() -> new ResourceNotFoundException("Interview slot not found"));
         return new InterviewSlotDto(slot);
@@ -154,7 +517,7 @@ public class InterviewSlotService {
 
     @Transactional(readOnly = true)
     public List<InterviewSlotDto> getSlotsByInterviewer(Long interviewerId) {
-        Interviewer interviewer = interviewerRepository.findById(interviewerId)
+        Interviewer interviewer = interviewerRepository.findByIdAndDeletedAtIsNull(interviewerId)
             .orElseThrow(() -> new ResourceNotFoundException("Interviewer not found"));
 
         LocalDateTime now = LocalDateTime.now();
@@ -162,12 +525,55 @@ public class InterviewSlotService {
 
         List<InterviewSlot> slots = interviewSlotRepository
             .findByInterviewerIdAndStartTimeBetween(interviewerId, now, twoWeeksFromNow);
+        if (virtualSlotService.isEnabled()) {
+            // Rows in every status plus the open hours that have no row yet
+            slots = new ArrayList<>(slots);
+            for (InterviewSlot slot : virtualSlotService.findOpenSlots(List.of(interviewerId), now, twoWeeksFromNow)) {
+                if (VirtualSlotService.isVirtualId(slot.getId())) {
+                    slots.add(slot);
+                }
+            }
+            slots.sort(VirtualSlotService.START_ORDER);
+        }
 
         return slots.stream()
             .map(InterviewSlotDto::new)
             .collect(Collectors.toList());
     }
 
+    // Negative ids only exist in virtual mode; elsewhere they are left to fail the lookup
+    private Long resolveSlotId(Long slotId) {
+        if (virtualSlotService.isEnabled() && VirtualSlotService.isVirtualId(slotId)) {
+            return virtualSlotService.materialize(slotId);
+        }
+        return slotId;
+    }
+
+    private String encodeVirtualCursor(InterviewSlot slot) {
+        String key = "v:" + slot.getStartTime().toEpochSecond(ZoneOffset.UTC) / 60
+            + ":" + slot.getInterviewer().getId() + ":" + slot.getId();
+        return Base64.getEncoder().encodeToString(key.getBytes());
+    }
+
+    // The cursor is returned as a slot carrying just the sort key
+    private InterviewSlot decodeVirtualCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return null;
+        try {
+            String[] parts = new String(Base64.getDecoder().decode(cursor)).split(":");
+            if (parts.length != 4 || !"v".equals(parts[0])) {
+                return null;
+            }
+            Interviewer interviewer = new Interviewer();
+            interviewer.setId(Long.parseLong(parts[2]));
+            LocalDateTime start = LocalDateTime.ofEpochSecond(Long.parseLong(parts[1]) * 60, 0, ZoneOffset.UTC);
+            InterviewSlot slot = new InterviewSlot(interviewer, start, start);
+            slot.setId(Long.parseLong(parts[3]));
+            return slot;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     private String encodeCursor(Long id) {
         if (id == null) return null;
         return Base64.getEncoder().encodeToString(id.toString().getBytes());
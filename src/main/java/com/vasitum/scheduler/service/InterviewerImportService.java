@@ -0,0 +1,377 @@
+package com.vasitum.scheduler.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.scheduler.dto.AvailabilitySlotDto;
+import com.vasitum.scheduler.dto.CreateInterviewerRequest;
+import com.vasitum.scheduler.dto.InterviewerImportResult;
+import com.vasitum.scheduler.dto.InterviewerImportResult.RowError;
+import com.vasitum.scheduler.dto.JobDto;
+import com.vasitum.scheduler.dto.JobDto.JobType;
+import com.vasitum.scheduler.exception.AdmissionRejectedException;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Imports interviewers from a CSV or NDJSON stream. Rows are parsed and validated as they
+// are read and written in chunks: one IN-query per chunk finds emails that already exist,
+// and interviewers and their rules go in as JDBC batches in one transaction per chunk.
+// A bad row is reported with its line number and never aborts the rest of the import.
+@Service
+public class InterviewerImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterviewerImportService.class);
+
+    private static final String INSERT_INTERVIEWER_SQL = "INSERT INTO interviewers " +
+        "(name, email, max_interviews_per_week, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SlotHorizonService slotHorizonService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public InterviewerImportService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public InterviewerImportResult importInterviewers(BufferedReader reader, Format format) throws IOException {
+        InterviewerImportResult result = new InterviewerImportResult();
+        Set<String> seenEmails = new HashSet<>();
+        List<Long> importedIds = new ArrayList<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        Map<String, Integer> columns = null;
+
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columns == null) {
+                columns = parseHeader(line);
+                continue;
+            }
+
+            CreateInterviewerRequest request;
+            try {
+                request = format == Format.CSV
+                    ? parseCsvRow(line, columns)
+                    : objectMapper.readValue(line, CreateInterviewerRequest.class);
+            } catch (JsonProcessingException e) {
+                reject(result, lineNumber, null, "Malformed row: " + e.getOriginalMessage());
+                continue;
+            } catch (IllegalArgumentException | DateTimeException e) {
+                reject(result, lineNumber, null, "Malformed row: " + e.getMessage());
+                continue;
+            }
+
+            String error = validate(request);
+            if (error == null && !seenEmails.add(request.getEmail())) {
+                error = "Duplicate email in import";
+            }
+            if (error != null) {
+                reject(result, lineNumber, request.getEmail(), error);
+                continue;
+            }
+
+            chunk.add(new Row(lineNumber, request));
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, result, importedIds);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, result, importedIds);
+        }
+        if (format == Format.CSV && columns == null) {
+            throw new IllegalArgumentException("CSV import requires a header row");
+        }
+
+        if (!importedIds.isEmpty()) {
+            result.setJobId(submitSlotGeneration(importedIds));
+        }
+        logger.info("Interviewer import finished: {} imported, {} failed", result.getImported(), result.getFailed());
+        return result;
+    }
+
+    // Existing emails are dropped up front; anything that still fails (e.g. a concurrent
+    // create with the same email) rolls back only this chunk and fails its rows
+    private void flush(List<Row> chunk, InterviewerImportResult result, List<Long> importedIds) {
+        Set<String> existing = new HashSet<>(interviewerRepository.findExistingEmails(emailsOf(chunk)));
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existing.contains(row.request.getEmail())) {
+                reject(result, row.line, row.request.getEmail(),
+                    "Interviewer with email " + row.request.getEmail() + " already exists");
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            importedIds.addAll(transactionTemplate.execute(status -> insertChunk(accepted)));
+            result.setImported(result.getImported() + accepted.size());
+        } catch (DataAccessException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            logger.warn("Import chunk of {} rows rolled back: {}", accepted.size(), message);
+            for (Row row : accepted) {
+                reject(result, row.line, row.request.getEmail(), "Chunk rolled back: " + message);
+            }
+        }
+    }
+
+    private List<Long> insertChunk(List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_INTERVIEWER_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.request.getName());
+            ps.setString(2, row.request.getEmail());
+            ps.setInt(3, row.request.getMaxInterviewsPerWeek());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+
+        // Generated keys are not portable across batch drivers, so ids are read back by email
+        Map<String, Long> idsByEmail = new HashMap<>();
+        for (Object[] idRow : interviewerRepository.findIdsByEmails(emailsOf(rows))) {
+            idsByEmail.put((String) idRow[0], (Long) idRow[1]);
+        }
+
+        List<Object[]> rules = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.request.getAvailabilitySlots() != null) {
+                for (AvailabilitySlotDto rule : row.request.getAvailabilitySlots()) {
+                    rules.add(new Object[]{idsByEmail.get(row.request.getEmail()), rule});
+                }
+            }
+        }
+        if (!rules.isEmpty()) {
+            jdbcTemplate.batchUpdate(InterviewerService.INSERT_RULE_SQL, rules, rules.size(), (ps, rule) -> {
+                AvailabilitySlotDto slot = (AvailabilitySlotDto) rule[1];
+                ps.setLong(1, (Long) rule[0]);
+                ps.setString(2, slot.getDayOfWeek().name());
+                ps.setTime(3, Time.valueOf(slot.getStartTime()));
+                ps.setTime(4, Time.valueOf(slot.getEndTime()));
+            });
+        }
+        return new ArrayList<>(idsByEmail.values());
+    }
+
+    // Slots for the whole import are generated by one job on the horizon pool. If the job
+    // queue is full the import still stands and the nightly horizon run covers it.
+    private String submitSlotGeneration(List<Long> interviewerIds) {
+        List<Long> ids = List.copyOf(interviewerIds);
+        try {
+            JobDto job = jobService.submit(JobType.GENERATE_SLOTS, "import:" + UUID.randomUUID(), progress -> {
+                progress.setTotal(ids.size());
+                int created = slotHorizonService.generateFor(ids);
+                progress.advance(ids.size());
+                return created + " slots created for " + ids.size() + " interviewers";
+            });
+            return job.getJobId();
+        } catch (AdmissionRejectedException e) {
+            logger.warn("Slot generation for {} imported interviewers deferred to the nightly run: {}",
+                ids.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String validate(CreateInterviewerRequest request) {
+        Set<ConstraintViolation<CreateInterviewerRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        if (request.getAvailabilitySlots() != null) {
+            for (AvailabilitySlotDto rule : request.getAvailabilitySlots()) {
+                if (!rule.getEndTime().isAfter(rule.getStartTime())) {
+                    return "Availability end time must be after start time";
+                }
+            }
+        }
+        return null;
+    }
+
+    private void reject(InterviewerImportResult result, long line, String email, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new RowError(line, email, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    private static List<String> emailsOf(List<Row> rows) {
+        List<String> emails = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            emails.add(row.request.getEmail());
+        }
+        return emails;
+    }
+
+    // Header: name,email,maxInterviewsPerWeek[,availability], in any order
+    private static Map<String, Integer> parseHeader(String line) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> fields = splitCsv(line);
+        for (int i = 0; i < fields.size(); i++) {
+            columns.put(fields.get(i), i);
+        }
+        for (String required : List.of("name", "email", "maxInterviewsPerWeek")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private static CreateInterviewerRequest parseCsvRow(String line, Map<String, Integer> columns) {
+        List<String> fields = splitCsv(line);
+        CreateInterviewerRequest request = new CreateInterviewerRequest();
+        request.setName(field(fields, columns, "name"));
+        request.setEmail(field(fields, columns, "email"));
+
+        String max = field(fields, columns, "maxInterviewsPerWeek");
+        if (max != null) {
+            try {
+                request.setMaxInterviewsPerWeek(Integer.valueOf(max));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("maxInterviewsPerWeek is not a number: " + max);
+            }
+        }
+
+        String availability = field(fields, columns, "availability");
+        if (availability != null) {
+            request.setAvailabilitySlots(parseAvailability(availability));
+        }
+        return request;
+    }
+
+    // "MONDAY 09:00-17:00;TUESDAY 09:00-12:00"
+    private static List<AvailabilitySlotDto> parseAvailability(String value) {
+        List<AvailabilitySlotDto> rules = new ArrayList<>();
+        for (String entry : value.split(";")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] dayAndRange = trimmed.split("\\s+");
+            String[] range = dayAndRange.length == 2 ? dayAndRange[1].split("-") : new String[0];
+            if (range.length != 2) {
+                throw new IllegalArgumentException("Availability entry must look like MONDAY 09:00-17:00: " + trimmed);
+            }
+            rules.add(new AvailabilitySlotDto(
+                DayOfWeek.valueOf(dayAndRange[0].toUpperCase(Locale.ROOT)),
+                LocalTime.parse(range[0]),
+                LocalTime.parse(range[1])));
+        }
+        return rules;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    // Comma-separated fields with optional double quotes ("" escapes a quote). A quoted
+    // field cannot span lines, since rows are read one line at a time.
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static class Row {
+        final long line;
+        final CreateInterviewerRequest request;
+
+        Row(long line, CreateInterviewerRequest request) {
+            this.line = line;
+            this.request = request;
+        }
+    }
+}
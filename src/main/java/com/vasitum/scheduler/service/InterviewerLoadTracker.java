@@ -0,0 +1,142 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory view of each interviewer's remaining weekly capacity, ordered so the least
+// loaded interviewer is always first. Used only to choose; bookSlot still enforces the
+// limit against the database, so a stale view can cost a retry but never an overbooking.
+@Service
+public class InterviewerLoadTracker {
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    private final Map<LocalDateTime, WeekLoad> weeks = new ConcurrentHashMap<>();
+
+    public static LocalDateTime weekStartOf(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.DAYS).with(DayOfWeek.MONDAY);
+    }
+
+    // Candidates ordered by remaining capacity (most first); full interviewers are dropped
+    public List<Long> rankByRemainingCapacity(Collection<Long> interviewerIds, LocalDateTime time) {
+        return weekFor(time, interviewerIds).rank(Set.copyOf(interviewerIds));
+    }
+
+    public int getRemainingCapacity(Long interviewerId, LocalDateTime time) {
+        return weekFor(time, List.of(interviewerId)).remaining(interviewerId);
+    }
+
+    public void recordBooked(Long interviewerId, LocalDateTime slotStart) {
+        AfterCommit.run(() -> adjust(interviewerId, slotStart, 1));
+    }
+
+    public void recordReleased(Long interviewerId, LocalDateTime slotStart) {
+        AfterCommit.run(() -> adjust(interviewerId, slotStart, -1));
+    }
+
+    // Used when capacity changes in ways that are not a single booking (bulk block, limit edits)
+    public void invalidate() {
+        AfterCommit.run(weeks::clear);
+    }
+
+    // Rebuilt periodically so bookings made by other nodes are eventually reflected
+    @Scheduled(fixedRateString = "${app.booking.load-tracker.refresh-ms:600000}")
+    public void refresh() {
+        weeks.clear();
+    }
+
+    private WeekLoad weekFor(LocalDateTime time, Collection<Long> interviewerIds) {
+        LocalDateTime weekStart = weekStartOf(time);
+        WeekLoad week = weeks.get(weekStart);
+        if (week == null || !week.containsAll(interviewerIds)) {
+            week = loadWeek(weekStart);
+            weeks.put(weekStart, week);
+        }
+        return week;
+    }
+
+    private void adjust(Long interviewerId, LocalDateTime slotStart, int delta) {
+        WeekLoad week = weeks.get(weekStartOf(slotStart));
+        if (week != null) {
+            week.adjust(interviewerId, delta);
+        }
+    }
+
+    private WeekLoad loadWeek(LocalDateTime weekStart) {
+        WeekLoad week = new WeekLoad();
+        Map<Long, Integer> booked = new HashMap<>();
+        for (Object[] row : interviewSlotRepository.countBookedByInterviewer(weekStart, weekStart.plusWeeks(1))) {
+            booked.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        for (Object[] row : interviewerRepository.findAllCapacities()) {
+            Long id = (Long) row[0];
+            week.put(id, (Integer) row[1] - booked.getOrDefault(id, 0));
+        }
+        return week;
+    }
+
+    private static class WeekLoad {
+        private final Map<Long, long[]> remainingById = new HashMap<>();
+        // Entries are {remaining, interviewerId}; highest remaining first, ties by id
+        private final TreeSet<long[]> ordered = new TreeSet<>(
+            Comparator.<long[]>comparingLong(entry -> -entry[0]).thenComparingLong(entry -> entry[1]));
+
+        synchronized void put(Long interviewerId, int remaining) {
+            long[] entry = {remaining, interviewerId};
+            remainingById.put(interviewerId, entry);
+            ordered.add(entry);
+        }
+
+        synchronized boolean containsAll(Collection<Long> interviewerIds) {
+            return remainingById.keySet().containsAll(interviewerIds);
+        }
+
+        synchronized int remaining(Long interviewerId) {
+            long[] entry = remainingById.get(interviewerId);
+            return entry == null ? 0 : (int) entry[0];
+        }
+
+        synchronized void adjust(Long interviewerId, int bookedDelta) {
+            long[] entry = remainingById.get(interviewerId);
+            if (entry == null) {
+                return;
+            }
+            ordered.remove(entry);
+            entry[0] -= bookedDelta;
+            ordered.add(entry);
+        }
+
+        synchronized List<Long> rank(Set<Long> candidates) {
+            List<Long> ranked = new ArrayList<>(candidates.size());
+            for (long[] entry : ordered) {
+                if (entry[0] <= 0 || ranked.size() == candidates.size()) {
+                    break;
+                }
+                if (candidates.contains(entry[1])) {
+                    ranked.add(entry[1]);
+                }
+            }
+            return ranked;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.JobDto;
+import com.vasitum.scheduler.dto.JobDto.JobType;
+import com.vasitum.scheduler.exception.AdmissionRejectedException;
+import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.SlotHorizonProgressRepository;
+import com.vasitum.scheduler.repository.WaitlistEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Removes soft-deleted interviewers. Slots go in bounded chunks of ids, each chunk its own
+// short transaction, so a long history never turns into one huge transaction or gets
+// loaded into the persistence context. The interviewer row goes last; an interrupted
+// purge is picked up again by the periodic sweep.
+@Service
+public class InterviewerPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterviewerPurgeService.class);
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private SlotHorizonProgressRepository slotHorizonProgressRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Value("${app.interviewers.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public InterviewerPurgeService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public JobDto submitPurge(Long interviewerId) {
+        return jobService.submit(JobType.PURGE_INTERVIEWER, "interviewer:" + interviewerId, progress ->
+            purge(interviewerId, progress) + " slots purged");
+    }
+
+    // Called once the soft delete has committed; with the job queue full the sweep picks it up
+    public void purgeLater(Long interviewerId) {
+        try {
+            submitPurge(interviewerId);
+        } catch (AdmissionRejectedException e) {
+            logger.warn("Purge of interviewer {} left to the next sweep: {}", interviewerId, e.getMessage());
+        }
+    }
+
+    // Catches purges lost to a full job queue or a restart
+    @Scheduled(fixedDelayString = "${app.interviewers.purge.sweep-interval-ms:3600000}")
+    public void purgeDeletedInterviewers() {
+        for (Long interviewerId : interviewerRepository.findDeletedIds()) {
+            try {
+                submitPurge(interviewerId);
+            } catch (AdmissionRejectedException e) {
+                logger.warn("Deferring purge of deleted interviewers: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    int purge(Long interviewerId, JobService.Progress progress) {
+        int purged = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = interviewSlotRepository.findIdsByInterviewerId(
+                    interviewerId, PageRequest.of(0, chunkSize));
+                return ids.isEmpty() ? 0 : interviewSlotRepository.deleteByIdIn(ids);
+            });
+            if (deleted == 0) {
+                break;
+            }
+            purged += deleted;
+            progress.advance(deleted);
+        }
+
+        // Rules and waitlist entries are a handful of rows per interviewer
+        transactionTemplate.executeWithoutResult(status -> {
+            availabilitySlotRepository.deleteByInterviewerId(interviewerId);
+            waitlistEntryRepository.deleteByInterviewerId(interviewerId);
+            slotHorizonProgressRepository.deleteById(interviewerId);
+            interviewerRepository.deletePurged(interviewerId);
+        });
+        logger.info("Purged interviewer {} and {} slots", interviewerId, purged);
+        return purged;
+    }
+}
@@ -5,25 +5,69 @@ import com.vasitum.scheduler.dto.CreateInterviewerRequest;
 import com.vasitum.scheduler.entity.AvailabilitySlot;
 import com.vasitum.scheduler.entity.InterviewSlot;
 import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.SlotHorizonProgress;
 import com.vasitum.scheduler.exception.ResourceNotFoundException;
 import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
 import com.vasitum.scheduler.repository.InterviewSlotRepository;
 import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.SlotHorizonProgressRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional
 public class InterviewerService {
 
+    private static final Logger logger = LoggerFactory.getLogger(InterviewerService.class);
+
+    private static final String INSERT_SLOT_SQL = "INSERT INTO interview_slots " +
+        "(interviewer_id, start_time, end_time, status, version, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    static final String INSERT_RULE_SQL = "INSERT INTO availability_slots " +
+        "(interviewer_id, day_of_week, start_time, end_time, is_active) VALUES (?, ?, ?, ?, TRUE)";
+
+    // Future open slots of an interviewer that lie inside no active rule for their weekday.
+    // DAYOFWEEK is numeric (1 = Sunday), unlike DAYNAME, which follows lc_time_names.
+    private static final String DELETE_UNCOVERED_SLOTS_SQL = "DELETE FROM interview_slots " +
+        "WHERE interviewer_id = ? AND status = ? AND start_time >= ? AND NOT EXISTS (" +
+        "SELECT 1 FROM availability_slots a WHERE a.interviewer_id = interview_slots.interviewer_id " +
+        "AND a.is_active = TRUE AND a.day_of_week = CASE DAYOFWEEK(interview_slots.start_time) " +
+        "WHEN 1 THEN 'SUNDAY' WHEN 2 THEN 'MONDAY' WHEN 3 THEN 'TUESDAY' WHEN 4 THEN 'WEDNESDAY' " +
+        "WHEN 5 THEN 'THURSDAY' WHEN 6 THEN 'FRIDAY' ELSE 'SATURDAY' END " +
+        "AND a.start_time <= CAST(interview_slots.start_time AS TIME) " +
+        "AND a.end_time >= CAST(interview_slots.end_time AS TIME))";
+
+    // The same for the compact encoding: day 0 of the epoch was a Thursday, and the time of
+    // day is the epoch minute modulo 1440, compared in minutes against the rule's TIME columns
+    private static final String DELETE_UNCOVERED_COMPACT_SLOTS_SQL = "DELETE FROM interview_slots " +
+        "WHERE interviewer_id = ? AND status = ? AND start_time >= ? AND NOT EXISTS (" +
+        "SELECT 1 FROM availability_slots a WHERE a.interviewer_id = interview_slots.interviewer_id " +
+        "AND a.is_active = TRUE AND a.day_of_week = CASE MOD(FLOOR(interview_slots.start_time / 1440) + 3, 7) " +
+        "WHEN 0 THEN 'MONDAY' WHEN 1 THEN 'TUESDAY' WHEN 2 THEN 'WEDNESDAY' WHEN 3 THEN 'THURSDAY' " +
+        "WHEN 4 THEN 'FRIDAY' WHEN 5 THEN 'SATURDAY' ELSE 'SUNDAY' END " +
+        "AND HOUR(a.start_time) * 60 + MINUTE(a.start_time) <= MOD(interview_slots.start_time, 1440) " +
+        "AND HOUR(a.end_time) * 60 + MINUTE(a.end_time) >= MOD(interview_slots.end_time, 1440))";
+
     @Autowired
     private InterviewerRepository interviewerRepository;
 
@@ -34,7 +78,37 @@ public class InterviewerService {
     private InterviewSlotRepository interviewSlotRepository;
 
     @Autowired
-    private NotificationService notificationService;
+    private OutboxService outboxService;
+
+    @Autowired
+    private InterviewerLoadTracker loadTracker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SlotHorizonProgressRepository slotHorizonProgressRepository;
+
+    @Autowired
+    private VirtualSlotService virtualSlotService;
+
+    @Autowired
+    private SlotCalendar slotCalendar;
+
+    @Autowired
+    private SlotEncoding slotEncoding;
+
+    @Autowired
+    private InterviewSlotService interviewSlotService;
+
+    @Autowired
+    private InterviewerPurgeService interviewerPurgeService;
+
+    @Value("${app.slots.generation.batch-size:500}")
+    private int insertBatchSize;
+
+    @Value("${app.slots.horizon-days:14}")
+    private int horizonDays;
 
     public Interviewer createInterviewer(CreateInterviewerRequest request) {
         // Check if interviewer already exists
@@ -63,105 +137,222 @@ public class InterviewerService {
             }
         }
 
-        // Generate interview slots for next 2 weeks
-        generateInterviewSlots(interviewer.getId());
-
+        // Slots are generated by a background job the caller submits once this commits
         return interviewer;
     }
 
-    public void generateInterviewSlots(Long interviewerId) {
-        Interviewer interviewer = interviewerRepository.findById(interviewerId)
+    public int generateInterviewSlots(Long interviewerId) {
+        Interviewer interviewer = interviewerRepository.findByIdWithLock(interviewerId)
             .orElseThrow(() -> new ResourceNotFoundException("Interviewer not found"));
+        if (virtualSlotService.isEnabled()) {
+            // Open slots are derived from the rules; rows appear only on booking or blocking
+            return 0;
+        }
 
         List<AvailabilitySlot> availabilitySlots = availabilitySlotRepository
             .findByInterviewerIdAndIsActiveTrue(interviewerId);
 
         LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.plusWeeks(2);
-
-        List<InterviewSlot> slotsToCreate = new ArrayList<>();
-
-        for (LocalDate date = startDate; date.isBefore(endDate); date = date.plusDays(1)) {
-            DayOfWeek dayOfWeek = date.getDayOfWeek();
-            
-            for (AvailabilitySlot availabilitySlot : availabilitySlots) {
-                if (availabilitySlot.getDayOfWeek().equals(dayOfWeek)) {
-                    // Generate 1-hour slots
-                    LocalTime currentTime = availabilitySlot.getStartTime();
-                    while (currentTime.isBefore(availabilitySlot.getEndTime())) {
-                        LocalDateTime slotStart = LocalDateTime.of(date, currentTime);
-                        LocalDateTime slotEnd = slotStart.plusHours(1);
-
-                        // Check if slot already exists
-                        List<InterviewSlot> existingSlots = interviewSlotRepository
-                            .findByInterviewerIdAndStartTimeBetween(
-                                interviewerId, slotStart, slotEnd
-                            );
-
-                        if (existingSlots.isEmpty()) {
-                            InterviewSlot slot = new InterviewSlot(interviewer, slotStart, slotEnd);
-                            slotsToCreate.add(slot);
-                        }
-
-                        currentTime = currentTime.plusHours(1);
-                    }
+        LocalDate endDate = startDate.plusDays(horizonDays);
+
+        int created = materializeSlots(interviewerId, availabilitySlots, startDate, endDate);
+        if (created > 0) {
+            // Notify the interviewer about slot generation via the outbox
+            outboxService.recordSlotsGenerated(interviewer, created);
+        }
+        recordCoverage(interviewerId, endDate);
+        return created;
+    }
+
+    // Reads the interviewer's existing slots around [from, to) in one query, plans each day
+    // on a bitmap (see SlotCalendar) and inserts the missing slots as JDBC batches (IDENTITY
+    // ids stop Hibernate from batching saveAll). Callers hold the interviewer row lock, which
+    // serializes runs for the same interviewer; the unique (interviewer_id, start_time)
+    // constraint backs it up.
+    public int materializeSlots(Long interviewerId, List<AvailabilitySlot> availabilitySlots,
+                                LocalDate from, LocalDate to) {
+        // From the day before, so a slot running past midnight still blocks the next morning
+        List<Object[]> existing = interviewSlotRepository.findSlotTimesInRange(
+            interviewerId, from.minusDays(1).atStartOfDay(), to.atStartOfDay());
+
+        SlotCalendar.DayPlanner planner = slotCalendar.newPlanner();
+        List<LocalDateTime> startsToCreate = new ArrayList<>();
+        int first = 0;
+
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            planner.reset();
+            planner.addRules(availabilitySlots, date.getDayOfWeek());
+            if (!planner.hasAvailability()) {
+                continue;
+            }
+
+            LocalDateTime dayStart = date.atStartOfDay();
+            LocalDateTime dayEnd = dayStart.plusDays(1);
+            while (first < existing.size() && !((LocalDateTime) existing.get(first)[1]).isAfter(dayStart)) {
+                first++;
+            }
+            for (int i = first; i < existing.size(); i++) {
+                LocalDateTime start = (LocalDateTime) existing.get(i)[0];
+                if (!start.isBefore(dayEnd)) {
+                    break;
                 }
+                planner.addBusy(dayStart, start, (LocalDateTime) existing.get(i)[1]);
+            }
+
+            DayBitmap starts = planner.plan();
+            for (int cell = starts.nextSetBit(0); cell >= 0; cell = starts.nextSetBit(cell + 1)) {
+                startsToCreate.add(dayStart.plusMinutes((long) cell * DayBitmap.CELL_MINUTES));
             }
         }
 
-        if (!slotsToCreate.isEmpty()) {
-            interviewSlotRepository.saveAll(slotsToCreate);
-            
-            // Send notification about slot generation
-            notificationService.sendSlotGenerationAlert(interviewer, slotsToCreate.size());
+        if (!startsToCreate.isEmpty()) {
+            insertAvailableSlots(interviewerId, startsToCreate);
         }
+        return startsToCreate.size();
+    }
+
+    public void recordCoverage(Long interviewerId, LocalDate coveredUntil) {
+        SlotHorizonProgress progress = slotHorizonProgressRepository.findById(interviewerId)
+            .orElseGet(() -> new SlotHorizonProgress(interviewerId, coveredUntil));
+        if (progress.getCoveredUntil().isBefore(coveredUntil)) {
+            progress.setCoveredUntil(coveredUntil);
+        }
+        slotHorizonProgressRepository.save(progress);
+    }
+
+    private void insertAvailableSlots(Long interviewerId, List<LocalDateTime> starts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object available = slotEncoding.status(InterviewSlot.SlotStatus.AVAILABLE);
+        jdbcTemplate.batchUpdate(INSERT_SLOT_SQL, starts, insertBatchSize, (ps, start) -> {
+            ps.setLong(1, interviewerId);
+            ps.setObject(2, slotEncoding.time(start));
+            ps.setObject(3, slotEncoding.time(start.plus(slotCalendar.getSlotDuration())));
+            ps.setObject(4, available);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
     }
 
     @Transactional(readOnly = true)
     public Interviewer getInterviewer(Long id) {
-        return interviewerRepository.findById(id)
+        return interviewerRepository.findByIdAndDeletedAtIsNull(id)
             .orElseThrow(() -> new ResourceNotFoundException("Interviewer not found with id: " + id));
     }
 
     @Transactional(readOnly = true)
     public List<Interviewer> getAllInterviewers() {
-        return interviewerRepository.findAll();
+        return interviewerRepository.findByDeletedAtIsNull();
     }
 
     public Interviewer updateInterviewer(Long id, CreateInterviewerRequest request) {
-        Interviewer interviewer = getInterviewer(id);
-        
+        // The row lock serializes this with slot generation for the same interviewer
+        Interviewer interviewer = interviewerRepository.findByIdWithLock(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Interviewer not found with id: " + id));
+
         interviewer.setName(request.getName());
         interviewer.setMaxInterviewsPerWeek(request.getMaxInterviewsPerWeek());
-        
-        // Update availability slots if provided
+        loadTracker.invalidate();
+
         if (request.getAvailabilitySlots() != null) {
-            // Deactivate existing slots
-            List<AvailabilitySlot> existingSlots = availabilitySlotRepository
-                .findByInterviewerIdAndIsActiveTrue(id);
-            existingSlots.forEach(slot -> slot.setIsActive(false));
-            availabilitySlotRepository.saveAll(existingSlots);
+            updateAvailability(interviewer, request.getAvailabilitySlots());
+        }
 
-            // Create new slots
-            for (AvailabilitySlotDto slotDto : request.getAvailabilitySlots()) {
-                AvailabilitySlot slot = new AvailabilitySlot(
-                    interviewer,
-                    slotDto.getDayOfWeek(),
-                    slotDto.getStartTime(),
-                    slotDto.getEndTime()
-                );
-                availabilitySlotRepository.save(slot);
+        return interviewerRepository.save(interviewer);
+    }
+
+    // Applies only the difference between the active rules and the requested ones: removed
+    // rules are deactivated and added rules inserted, one batch each. Slots are then
+    // regenerated for the weekdays whose rules changed, and AVAILABLE slots that no rule
+    // covers any more are deleted in one statement. Unchanged rules are left untouched.
+    private void updateAvailability(Interviewer interviewer, List<AvailabilitySlotDto> requested) {
+        Long id = interviewer.getId();
+        Map<String, AvailabilitySlot> current = new HashMap<>();
+        List<Long> removedIds = new ArrayList<>();
+        for (AvailabilitySlot rule : availabilitySlotRepository.findByInterviewerIdAndIsActiveTrue(id)) {
+            // Duplicate active rules collapse into one
+            if (current.putIfAbsent(ruleKey(rule.getDayOfWeek(), rule.getStartTime(), rule.getEndTime()), rule) != null) {
+                removedIds.add(rule.getId());
             }
+        }
 
-            // Regenerate interview slots
-            generateInterviewSlots(id);
+        Map<String, AvailabilitySlotDto> wanted = new LinkedHashMap<>();
+        for (AvailabilitySlotDto slotDto : requested) {
+            wanted.putIfAbsent(ruleKey(slotDto.getDayOfWeek(), slotDto.getStartTime(), slotDto.getEndTime()), slotDto);
         }
 
-        return interviewerRepository.save(interviewer);
+        Set<DayOfWeek> changedDays = EnumSet.noneOf(DayOfWeek.class);
+        List<AvailabilitySlot> activeRules = new ArrayList<>();
+        for (Map.Entry<String, AvailabilitySlot> entry : current.entrySet()) {
+            if (wanted.containsKey(entry.getKey())) {
+                activeRules.add(entry.getValue());
+            } else {
+                removedIds.add(entry.getValue().getId());
+                changedDays.add(entry.getValue().getDayOfWeek());
+            }
+        }
+        List<AvailabilitySlot> added = new ArrayList<>();
+        for (Map.Entry<String, AvailabilitySlotDto> entry : wanted.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                AvailabilitySlotDto slotDto = entry.getValue();
+                added.add(new AvailabilitySlot(interviewer, slotDto.getDayOfWeek(), slotDto.getStartTime(), slotDto.getEndTime()));
+                changedDays.add(slotDto.getDayOfWeek());
+            }
+        }
+
+        if (!removedIds.isEmpty()) {
+            availabilitySlotRepository.deactivateByIds(removedIds);
+        }
+        if (!added.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RULE_SQL, added, insertBatchSize, (ps, rule) -> {
+                ps.setLong(1, id);
+                ps.setString(2, rule.getDayOfWeek().name());
+                ps.setTime(3, Time.valueOf(rule.getStartTime()));
+                ps.setTime(4, Time.valueOf(rule.getEndTime()));
+            });
+            activeRules.addAll(added);
+        }
+        if (changedDays.isEmpty()) {
+            return;
+        }
+
+        int removedSlots = jdbcTemplate.update(
+            slotEncoding.isCompact() ? DELETE_UNCOVERED_COMPACT_SLOTS_SQL : DELETE_UNCOVERED_SLOTS_SQL,
+            id, slotEncoding.status(InterviewSlot.SlotStatus.AVAILABLE), slotEncoding.time(LocalDateTime.now()));
+        if (removedSlots > 0) {
+            logger.info("Removed {} open slots of interviewer {} no longer covered by availability", removedSlots, id);
+        }
+
+        if (!virtualSlotService.isEnabled()) {
+            List<AvailabilitySlot> changedRules = activeRules.stream()
+                .filter(rule -> changedDays.contains(rule.getDayOfWeek()))
+                .toList();
+            LocalDate startDate = LocalDate.now();
+            int created = materializeSlots(id, changedRules, startDate, startDate.plusDays(horizonDays));
+            if (created > 0) {
+                outboxService.recordSlotsGenerated(interviewer, created);
+            }
+        }
     }
 
+    private static String ruleKey(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        return dayOfWeek + "|" + startTime + "|" + endTime;
+    }
+
+    // Soft delete with a fixed number of statements however long the interviewer's history:
+    // rules are deactivated, future bookings cancelled (one batched set of cancellation events)
+    // and future open slots blocked. The rows themselves are purged by a background job.
     public void deleteInterviewer(Long id) {
-        Interviewer interviewer = getInterviewer(id);
-        interviewerRepository.delete(interviewer);
+        Interviewer interviewer = interviewerRepository.findByIdWithLock(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Interviewer not found with id: " + id));
+        interviewer.setDeletedAt(LocalDateTime.now());
+        availabilitySlotRepository.deactivateByInterviewerId(id);
+        int cancelled = interviewSlotService.closeFutureSlots(id);
+        // The row lingers until the purge; release its unique email so the address can be
+        // registered again straight away
+        String tombstone = "deleted-" + id + "-" + interviewer.getEmail();
+        interviewer.setEmail(tombstone.substring(0, Math.min(tombstone.length(), 255)));
+        logger.info("Interviewer {} deleted, {} future bookings cancelled", id, cancelled);
+
+        AfterCommit.run(() -> interviewerPurgeService.purgeLater(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.JobDto;
+import com.vasitum.scheduler.dto.JobDto.JobStatus;
+import com.vasitum.scheduler.dto.JobDto.JobType;
+import com.vasitum.scheduler.exception.AdmissionRejectedException;
+import com.vasitum.scheduler.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs long admin operations (slot generation, notification sweeps) on a small bounded
+// pool instead of the request thread. Callers get a job id to poll; a second request for
+// the same type and target while one is queued or running gets the existing job back.
+@Service
+public class JobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobService.class);
+
+    @Value("${app.jobs.threads:2}")
+    private int threads;
+
+    @Value("${app.jobs.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.jobs.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // Queued or running job per type and target, used for de-duplication
+    private final Map<String, Job> activeByKey = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+
+    @FunctionalInterface
+    public interface Task {
+        // Returns a short summary shown as the job result
+        String run(Progress progress) throws Exception;
+    }
+
+    public interface Progress {
+        void setTotal(long total);
+
+        void advance(long done);
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        // No caller-runs fallback: a full queue is reported to the client, never run on its thread
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "job-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Background jobs did not finish before shutdown");
+            executor.shutdownNow();
+        }
+    }
+
+    public JobDto submit(JobType type, String target, Task task) {
+        String key = type + ":" + target;
+        Job[] created = new Job[1];
+        // Registered for polling before it becomes visible to a duplicate submit
+        Job job = activeByKey.computeIfAbsent(key, k -> {
+            created[0] = new Job(UUID.randomUUID().toString(), type, target);
+            jobs.put(created[0].id, created[0]);
+            return created[0];
+        });
+        if (created[0] == null) {
+            return job.toDto();
+        }
+
+        try {
+            executor.execute(() -> run(job, key, task));
+        } catch (RejectedExecutionException e) {
+            // A duplicate may already hold this id, so it stays pollable as a failed job
+            job.error = "Too many background jobs queued";
+            job.status = JobStatus.FAILED;
+            job.finishedAt = LocalDateTime.now();
+            activeByKey.remove(key, job);
+            throw new AdmissionRejectedException("Too many background jobs queued, please retry shortly", 5);
+        }
+        return job.toDto();
+    }
+
+    public JobDto getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Job not found");
+        }
+        return job.toDto();
+    }
+
+    // Finished jobs are kept for polling for a while, then dropped
+    @Scheduled(fixedRate = 60000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(ttlMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private void run(Job job, String key, Task task) {
+        job.startedAt = LocalDateTime.now();
+        job.status = JobStatus.RUNNING;
+        try {
+            job.result = task.run(job);
+            job.status = JobStatus.SUCCEEDED;
+        } catch (Exception e) {
+            logger.error("Job {} ({} {}) failed: {}", job.id, job.type, job.target, e.getMessage());
+            job.error = e.getMessage();
+            job.status = JobStatus.FAILED;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            activeByKey.remove(key, job);
+        }
+    }
+
+    private static class Job implements Progress {
+        final String id;
+        final JobType type;
+        final String target;
+        final LocalDateTime submittedAt = LocalDateTime.now();
+        final AtomicLong processed = new AtomicLong();
+        volatile Long total;
+        volatile JobStatus status = JobStatus.QUEUED;
+        volatile String result;
+        volatile String error;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+
+        Job(String id, JobType type, String target) {
+            this.id = id;
+            this.type = type;
+            this.target = target;
+        }
+
+        @Override
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        @Override
+        public void advance(long done) {
+            processed.addAndGet(done);
+        }
+
+        JobDto toDto() {
+            return new JobDto(id, type, target, status, processed.get(), total, result, error,
+                submittedAt, startedAt, finishedAt);
+        }
+    }
+}
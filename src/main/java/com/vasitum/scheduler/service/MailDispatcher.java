@@ -0,0 +1,239 @@
+package com.vasitum.scheduler.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Sends mail on a bounded pool of workers. Each worker takes a batch of messages and sends
+// them over one SMTP connection taken from a pool of open transports, so a burst costs one
+// handshake per connection instead of one per message. Connect, read and write timeouts
+// bound every SMTP command; a message that times out fails on its own and the connection
+// is replaced for the rest of the batch.
+@Service
+public class MailDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailDispatcher.class);
+
+    @Autowired(required = false)
+    private JavaMailSender mailSender;
+
+    @Value("${app.mail.from:noreply@interviewscheduler.com}")
+    private String fromEmail;
+
+    @Value("${app.mail.enabled:false}")
+    private boolean emailEnabled;
+
+    @Value("${app.mail.dispatch.workers:4}")
+    private int workers;
+
+    @Value("${app.mail.dispatch.batch-size:25}")
+    private int batchSize;
+
+    @Value("${app.mail.dispatch.timeout-ms:10000}")
+    private int timeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private BlockingQueue<Transport> idleTransports;
+    private Session session;
+
+    public static class OutgoingMail {
+        private final String to;
+        private final String subject;
+        private final String text;
+        private final String html;
+
+        public OutgoingMail(String to, String subject, String text) {
+            this(to, subject, text, null);
+        }
+
+        public OutgoingMail(String to, String subject, String text, String html) {
+            this.to = to;
+            this.subject = subject;
+            this.text = text;
+            this.html = html;
+        }
+
+        public String getTo() { return to; }
+        public String getSubject() { return subject; }
+        public String getText() { return text; }
+        public String getHtml() { return html; }
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(workers * 4),
+            runnable -> {
+                Thread thread = new Thread(runnable, "mail-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        idleTransports = new ArrayBlockingQueue<>(workers);
+
+        if (mailSender instanceof JavaMailSenderImpl sender) {
+            Properties properties = new Properties();
+            properties.putAll(sender.getJavaMailProperties());
+            String protocol = sender.getProtocol() == null ? "smtp" : sender.getProtocol();
+            properties.put("mail." + protocol + ".connectiontimeout", String.valueOf(timeoutMs));
+            properties.put("mail." + protocol + ".timeout", String.valueOf(timeoutMs));
+            properties.put("mail." + protocol + ".writetimeout", String.valueOf(timeoutMs));
+            session = Session.getInstance(properties);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    // Returns, per message, whether the server accepted it
+    public boolean[] sendAll(List<OutgoingMail> mails) {
+        boolean[] sent = new boolean[mails.size()];
+        if (!emailEnabled || mailSender == null) {
+            for (OutgoingMail mail : mails) {
+                logger.info("Email sending is disabled or mailSender not available. Would send email to: {} with subject: {}",
+                    mail.getTo(), mail.getSubject());
+            }
+            Arrays.fill(sent, true); // Report success for testing purposes
+            return sent;
+        }
+
+        List<Future<?>> batches = new ArrayList<>();
+        for (int i = 0; i < mails.size(); i += batchSize) {
+            int from = i;
+            int to = Math.min(i + batchSize, mails.size());
+            batches.add(executor.submit(() -> sendBatch(mails, from, to, sent)));
+        }
+        for (Future<?> batch : batches) {
+            try {
+                batch.get();
+            } catch (Exception e) {
+                // Messages of this batch that were not confirmed stay unsent
+                logger.error("Mail batch failed: {}", e.getMessage());
+            }
+        }
+        return sent;
+    }
+
+    private void sendBatch(List<OutgoingMail> mails, int from, int to, boolean[] sent) {
+        if (session == null) {
+            // Not a JavaMailSenderImpl: there is no session to pool connections for
+            sendWithMailSender(mails, from, to, sent);
+            return;
+        }
+
+        Transport transport = borrow();
+        try {
+            for (int i = from; i < to; i++) {
+                OutgoingMail mail = mails.get(i);
+                try {
+                    if (transport == null) {
+                        transport = connect();
+                    }
+                    MimeMessage message = fill(new MimeMessage(session), mail);
+                    transport.sendMessage(message, message.getAllRecipients());
+                    sent[i] = true;
+                } catch (SendFailedException | AddressException e) {
+                    // Bad or rejected recipient; the connection is still usable
+                    logger.error("Failed to send email to: {} - Error: {}", mail.getTo(), e.getMessage());
+                } catch (MessagingException e) {
+                    // Timed out or dropped: do not reuse the connection
+                    logger.error("Failed to send email to: {} - Error: {}", mail.getTo(), e.getMessage());
+                    if (transport != null) {
+                        close(transport);
+                        transport = null;
+                    }
+                }
+            }
+        } finally {
+            if (transport != null && !idleTransports.offer(transport)) {
+                close(transport);
+            }
+        }
+    }
+
+    // An idle connection the server may have dropped meanwhile is checked before reuse
+    private Transport borrow() {
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            if (transport.isConnected()) {
+                return transport;
+            }
+            close(transport);
+        }
+        return null;
+    }
+
+    private Transport connect() throws MessagingException {
+        JavaMailSenderImpl sender = (JavaMailSenderImpl) mailSender;
+        Transport transport = session.getTransport(sender.getProtocol() == null ? "smtp" : sender.getProtocol());
+        transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+        return transport;
+    }
+
+    private MimeMessage fill(MimeMessage message, OutgoingMail mail) throws MessagingException {
+        message.setFrom(new InternetAddress(fromEmail));
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(mail.getTo()));
+        message.setSubject(mail.getSubject());
+        if (mail.getHtml() == null) {
+            message.setText(mail.getText());
+        } else {
+            // multipart/alternative: clients that cannot show HTML fall back to the text part
+            new MimeMessageHelper(message, true, "UTF-8").setText(mail.getText(), mail.getHtml());
+        }
+        message.saveChanges();
+        return message;
+    }
+
+    private void sendWithMailSender(List<OutgoingMail> mails, int from, int to, boolean[] sent) {
+        for (int i = from; i < to; i++) {
+            OutgoingMail mail = mails.get(i);
+            try {
+                mailSender.send(fill(mailSender.createMimeMessage(), mail));
+                sent[i] = true;
+            } catch (Exception e) {
+                logger.error("Failed to send email to: {} - Error: {}", mail.getTo(), e.getMessage());
+            }
+        }
+    }
+
+    private void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            logger.debug("Error closing mail transport: {}", e.getMessage());
+        }
+    }
+}
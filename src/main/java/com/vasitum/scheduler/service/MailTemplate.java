@@ -0,0 +1,104 @@
+package com.vasitum.scheduler.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// A mail template compiled once into alternating literal and variable segments, so a
+// render is a straight walk that appends into the caller's builder. Variables are written
+// as {{name}}; an unknown or missing variable renders as empty. HTML templates escape
+// every value, text templates copy it as is.
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] segments;
+    private final boolean[] variable;
+    private final boolean html;
+    private final int literalLength;
+
+    private MailTemplate(List<String> segments, List<Boolean> variable, boolean html) {
+        this.segments = segments.toArray(new String[0]);
+        this.variable = new boolean[segments.size()];
+        int length = 0;
+        for (int i = 0; i < this.segments.length; i++) {
+            this.variable[i] = variable.get(i);
+            if (!this.variable[i]) {
+                length += this.segments[i].length();
+            }
+        }
+        this.html = html;
+        this.literalLength = length;
+    }
+
+    public static MailTemplate compile(String source, boolean html) {
+        List<String> segments = new ArrayList<>();
+        List<Boolean> variable = new ArrayList<>();
+        int from = 0;
+        while (from < source.length()) {
+            int open = source.indexOf(OPEN, from);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed variable at offset " + open);
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty variable at offset " + open);
+            }
+            if (open > from) {
+                segments.add(source.substring(from, open));
+                variable.add(false);
+            }
+            segments.add(name);
+            variable.add(true);
+            from = close + CLOSE.length();
+        }
+        if (from < source.length()) {
+            segments.add(source.substring(from));
+            variable.add(false);
+        }
+        return new MailTemplate(segments, variable, html);
+    }
+
+    // Literal text only; callers size reusable builders from it
+    public int getLiteralLength() {
+        return literalLength;
+    }
+
+    public StringBuilder render(StringBuilder out, Map<String, String> values) {
+        for (int i = 0; i < segments.length; i++) {
+            if (!variable[i]) {
+                out.append(segments[i]);
+                continue;
+            }
+            String value = values.get(segments[i]);
+            if (value == null) {
+                continue;
+            }
+            if (html) {
+                escapeHtml(out, value);
+            } else {
+                out.append(value);
+            }
+        }
+        return out;
+    }
+
+    private static void escapeHtml(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.entity.OutboxEvent;
+import com.vasitum.scheduler.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Coalesces slot generation alerts. A bulk regeneration used to send one alert per run;
+// here the events for the same recipient are merged in memory for a window and go out as
+// one alert carrying the total slot count, so N runs cost one row and one send instead of
+// N. The buffer is keyed by recipient and event type and holds at most max-recipients
+// entries; when it is full the oldest is sent early. Entries are in insertion order, so
+// the timer only walks the ones whose window has closed. The events' outbox rows stay,
+// marked held, until their digest is saved, so a restart rebuilds the buffer from them.
+@Service
+public class NotificationDigestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDigestService.class);
+
+    private static final int SEND_CHUNK = 500;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    // 0 turns coalescing off: alerts are relayed as soon as their event is
+    @Value("${app.notifications.digest.window-ms:30000}")
+    private long windowMillis;
+
+    @Value("${app.notifications.digest.max-recipients:10000}")
+    private int maxRecipients;
+
+    private final LinkedHashMap<String, Digest> buffer = new LinkedHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+
+    static final class Digest {
+        private final List<OutboxEvent> events = new ArrayList<>();
+        private final long openedAt;
+
+        Digest(long openedAt) {
+            this.openedAt = openedAt;
+        }
+    }
+
+    public NotificationDigestService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Held rows are the buffer of the previous run; their windows keep counting from held_at
+    @PostConstruct
+    void rebuild() {
+        List<OutboxEvent> held = outboxEventRepository.findByHeldAtIsNotNullOrderByIdAsc();
+        if (!held.isEmpty()) {
+            add(held);
+            logger.info("Rebuilt {} coalesced alerts from {} held generation events", size(), held.size());
+        }
+    }
+
+    public boolean accepts(OutboxEvent event) {
+        return windowMillis > 0 && event.getEventType() == OutboxEvent.EventType.SLOTS_GENERATED;
+    }
+
+    // Called outside any transaction, once the events' outbox rows are marked held
+    public void add(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Digest> evicted = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (buffer) {
+            for (OutboxEvent event : events) {
+                String key = event.getEventType() + ":" + event.getRecipientEmail().toLowerCase(Locale.ROOT);
+                long openedAt = event.getHeldAt() == null
+                    ? now : event.getHeldAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                buffer.computeIfAbsent(key, k -> new Digest(openedAt)).events.add(event);
+                if (buffer.size() > maxRecipients) {
+                    Iterator<Digest> oldest = buffer.values().iterator();
+                    evicted.add(oldest.next());
+                    oldest.remove();
+                }
+            }
+        }
+        send(evicted);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.digest.flush-interval-ms:1000}")
+    public void flushDue() {
+        long closedBefore = System.currentTimeMillis() - windowMillis;
+        List<Digest> due = new ArrayList<>();
+        synchronized (buffer) {
+            Iterator<Digest> it = buffer.values().iterator();
+            while (it.hasNext()) {
+                Digest digest = it.next();
+                if (digest.openedAt > closedBefore) {
+                    break;
+                }
+                due.add(digest);
+                it.remove();
+            }
+        }
+        send(due);
+    }
+
+    // A clean shutdown sends what is buffered; after a crash the held rows rebuild it
+    @PreDestroy
+    public void flushAll() {
+        List<Digest> all;
+        synchronized (buffer) {
+            all = new ArrayList<>(buffer.values());
+            buffer.clear();
+        }
+        send(all);
+    }
+
+    int size() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    // Drops the buffer without sending, as a crash would; the held rows stay in the outbox
+    void discard() {
+        synchronized (buffer) {
+            buffer.clear();
+        }
+    }
+
+    private void send(List<Digest> digests) {
+        for (int from = 0; from < digests.size(); from += SEND_CHUNK) {
+            List<Digest> chunk = digests.subList(from, Math.min(from + SEND_CHUNK, digests.size()));
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> save(chunk));
+                notificationService.dispatch(ids);
+            } catch (Exception e) {
+                logger.error("Error sending coalesced alerts: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Saves the alerts and deletes their held rows in one transaction. Only events whose
+    // rows are still there are counted: after a restart two nodes can hold the same rows,
+    // and whichever saves first takes them.
+    private List<Long> save(List<Digest> digests) {
+        List<Long> eventIds = new ArrayList<>();
+        for (Digest digest : digests) {
+            for (OutboxEvent event : digest.events) {
+                eventIds.add(event.getId());
+            }
+        }
+        Set<Long> present = new HashSet<>();
+        for (OutboxEvent event : outboxEventRepository.findAllByIdWithLock(eventIds)) {
+            present.add(event.getId());
+        }
+
+        List<Notification> notifications = new ArrayList<>(digests.size());
+        for (Digest digest : digests) {
+            OutboxEvent first = null;
+            int slotCount = 0;
+            for (OutboxEvent event : digest.events) {
+                if (present.contains(event.getId())) {
+                    first = first == null ? event : first;
+                    slotCount += event.getSlotCount();
+                }
+            }
+            if (first != null) {
+                notifications.add(notificationService.buildSlotGenerationDigest(first, slotCount));
+            }
+        }
+        if (present.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(notifications.size());
+        for (Notification notification : notificationService.saveAll(notifications)) {
+            ids.add(notification.getId());
+        }
+        outboxEventRepository.deleteByIdIn(present);
+        logger.debug("Coalesced {} generation events into {} alerts", present.size(), ids.size());
+        return ids;
+    }
+}
@@ -0,0 +1,172 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.entity.OutboxEvent;
+import com.vasitum.scheduler.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class NotificationRelayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRelayService.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ReminderWheelService reminderWheelService;
+
+    @Autowired
+    private NotificationDigestService notificationDigestService;
+
+    @Value("${app.notifications.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.notifications.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationRelayService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.relay-interval-ms:1000}")
+    public void relayOutbox() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                RelayedBatch batch = transactionTemplate.execute(status -> relayBatch());
+                if (batch == null || batch.eventCount == 0) {
+                    return;
+                }
+
+                // Immediate notifications go out after the batch has committed
+                notificationService.dispatch(batch.dueNotificationIds);
+                notificationDigestService.add(batch.digestEvents);
+
+                if (batch.eventCount < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error relaying notification outbox: {}", e.getMessage());
+        }
+    }
+
+    // Converts the oldest outbox events into Notification rows and deletes them, all in
+    // the caller's transaction. Slot generation events being coalesced are marked held
+    // instead; NotificationDigestService deletes them when it saves their digest. Events
+    // are applied in id order so a cancellation only ever cancels reminders created
+    // before it.
+    public RelayedBatch relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findOldest(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return new RelayedBatch(0, List.of(), List.of());
+        }
+
+        // Reminders created in this batch are keyed by slot so a later event can drop them
+        Map<Long, Notification> batchReminders = new LinkedHashMap<>();
+        List<Notification> notifications = new ArrayList<>();
+        Set<Long> remindersToCancel = new HashSet<>();
+        List<OutboxEvent> digestEvents = new ArrayList<>();
+        List<Long> heldIds = new ArrayList<>();
+        List<Long> eventIds = new ArrayList<>(events.size());
+
+        for (OutboxEvent event : events) {
+            // Coalesced in memory by the caller once this batch has committed
+            if (notificationDigestService.accepts(event)) {
+                digestEvents.add(event);
+                heldIds.add(event.getId());
+                continue;
+            }
+            eventIds.add(event.getId());
+
+            Long releasedSlotId = switch (event.getEventType()) {
+                case SLOT_CANCELLED -> event.getInterviewSlotId();
+                case BOOKING_UPDATED -> event.getPreviousSlotId();
+                default -> null;
+            };
+            if (releasedSlotId != null) {
+                batchReminders.remove(releasedSlotId);
+                remindersToCancel.add(releasedSlotId);
+            }
+
+            for (Notification notification : notificationService.buildNotifications(event)) {
+                if (notification.getType() == Notification.NotificationType.INTERVIEW_REMINDER) {
+                    batchReminders.put(notification.getInterviewSlotId(), notification);
+                } else {
+                    notifications.add(notification);
+                }
+            }
+        }
+        notifications.addAll(batchReminders.values());
+
+        // Only rows from earlier batches are affected; this batch's reminders are not saved yet
+        List<Long> cancelledReminders = notificationService.cancelPendingReminders(remindersToCancel);
+        List<Notification> saved = notificationService.saveAll(notifications);
+        LocalDateTime now = LocalDateTime.now();
+        if (!eventIds.isEmpty()) {
+            outboxEventRepository.deleteByIdIn(eventIds);
+        }
+        if (!heldIds.isEmpty()) {
+            outboxEventRepository.markHeld(heldIds, now);
+        }
+
+        List<Long> dueNotificationIds = new ArrayList<>();
+        List<Notification> upcoming = new ArrayList<>();
+        for (Notification notification : saved) {
+            if (!notification.getScheduledFor().isAfter(now)) {
+                dueNotificationIds.add(notification.getId());
+            } else {
+                upcoming.add(notification);
+            }
+        }
+
+        // The wheel only learns about reminders once they are committed
+        AfterCommit.run(() -> {
+            reminderWheelService.cancel(cancelledReminders);
+            for (Notification notification : upcoming) {
+                reminderWheelService.schedule(notification.getId(), notification.getScheduledFor());
+            }
+        });
+
+        logger.debug("Relayed {} outbox events into {} notifications", events.size(), saved.size());
+        return new RelayedBatch(events.size(), dueNotificationIds, digestEvents);
+    }
+
+    public static class RelayedBatch {
+        private final int eventCount;
+        private final List<Long> dueNotificationIds;
+        private final List<OutboxEvent> digestEvents;
+
+        RelayedBatch(int eventCount, List<Long> dueNotificationIds, List<OutboxEvent> digestEvents) {
+            this.eventCount = eventCount;
+            this.dueNotificationIds = dueNotificationIds;
+            this.digestEvents = digestEvents;
+        }
+
+        public int getEventCount() { return eventCount; }
+        public List<Long> getDueNotificationIds() { return dueNotificationIds; }
+        // Events held back for NotificationDigestService instead of becoming rows here
+        public List<OutboxEvent> getDigestEvents() { return digestEvents; }
+    }
+}
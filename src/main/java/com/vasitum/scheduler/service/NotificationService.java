@@ -1,19 +1,35 @@
 package com.vasitum.scheduler.service;
 
-import com.vasitum.scheduler.entity.InterviewSlot;
-import com.vasitum.scheduler.entity.Interviewer;
 import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.entity.OutboxEvent;
 import com.vasitum.scheduler.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Transactional
@@ -22,215 +38,363 @@ public class NotificationService {
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMMM dd, yyyy");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("hh:mm a");
+    // Below every due time: the cursor a sweep starts from
+    private static final LocalDateTime SWEEP_FLOOR = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // Attempts a send got before they were capped by max-attempts
+    private static final int LEGACY_MAX_ATTEMPTS = 3;
+
+    private static final String BACKFILL_SQL =
+        "UPDATE notifications SET next_attempt_at = ? WHERE id = ? AND status = 'FAILED' AND next_attempt_at IS NULL";
+
+    // Failed sends are written back per row: each gets its own retry count and jittered time
+    private static final String MARK_FAILED_SQL =
+        "UPDATE notifications SET status = 'FAILED', retry_count = ?, next_attempt_at = ?, error_message = ?, " +
+        "claimed_by = NULL, lease_until = NULL WHERE id = ? AND claimed_by = ?";
     
     @Autowired
     private NotificationRepository notificationRepository;
     
     @Autowired
-    private EmailService emailService;
-    
-    @Async
-    public void sendBookingConfirmation(InterviewSlot slot) {
-        try {
-            String subject = "Interview Booking Confirmation";
-            String content = emailService.generateBookingConfirmationEmail(
-                slot.getCandidateName(),
-                slot.getInterviewer().getName(),
-                slot.getStartTime().format(DATE_FORMATTER),
-                slot.getStartTime().format(TIME_FORMATTER)
-            );
-            
-            Notification notification = new Notification(
-                slot.getCandidateEmail(),
-                subject,
-                content,
-                Notification.NotificationType.BOOKING_CONFIRMATION
-            );
-            notification.setInterviewSlotId(slot.getId());
-            notification.setInterviewerId(slot.getInterviewer().getId());
-            
-            saveAndSendNotification(notification);
-            
-        } catch (Exception e) {
-            logger.error("Error sending booking confirmation for slot {}: {}", slot.getId(), e.getMessage());
+    private NotificationTemplateService notificationTemplateService;
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.notifications.dispatch.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.notifications.dispatch.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.notifications.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.retry.base-delay-seconds:30}")
+    private long baseDelaySeconds;
+
+    @Value("${app.notifications.retry.max-delay-seconds:3600}")
+    private long maxDelaySeconds;
+
+    @Value("${app.notifications.retry.backfill-max-age-hours:24}")
+    private long backfillMaxAgeHours;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService leaseRenewer;
+
+    public NotificationService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        leaseRenewer.shutdownNow();
+    }
+
+    // Rows that failed before backoff was stored have no next attempt. Those still under the
+    // old limit of three attempts, created within backfill-max-age-hours and not for an
+    // interview that has started get one, jittered as for a fresh failure. Run once, by
+    // DataMigrations.
+    public int backfillLegacyRetries() {
+        LocalDateTime now = LocalDateTime.now();
+        int attemptLimit = Math.min(LEGACY_MAX_ATTEMPTS, maxAttempts);
+        LocalDateTime createdAfter = now.minusHours(backfillMaxAgeHours);
+        return transactionTemplate.execute(tx -> {
+            int backfilled = 0;
+            long afterId = 0;
+            while (true) {
+                List<Object[]> rows = notificationRepository.findLegacyRetries(
+                    attemptLimit, createdAfter, now, afterId, PageRequest.of(0, chunkSize));
+                if (rows.isEmpty()) {
+                    return backfilled;
+                }
+                jdbcTemplate.batchUpdate(BACKFILL_SQL, rows, rows.size(), (ps, row) -> {
+                    int attempts = Math.max(1, ((Number) row[1]).intValue());
+                    ps.setTimestamp(1, Timestamp.valueOf(nextAttemptAt(attempts, now)));
+                    ps.setLong(2, (Long) row[0]);
+                });
+                backfilled += rows.size();
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+        });
+    }
+
+    // Expands one outbox event into the notification rows it implies
+    public List<Notification> buildNotifications(OutboxEvent event) {
+        List<Notification> notifications = new ArrayList<>(2);
+        switch (event.getEventType()) {
+            case SLOT_BOOKED -> {
+                notifications.add(buildBookingConfirmation(event));
+                Notification reminder = buildInterviewReminder(event);
+                if (reminder != null) {
+                    notifications.add(reminder);
+                }
+            }
+            case SLOT_CANCELLED -> notifications.add(buildCancellationNotice(event));
+            case BOOKING_UPDATED -> {
+                notifications.add(buildBookingUpdate(event));
+                Notification reminder = buildInterviewReminder(event);
+                if (reminder != null) {
+                    notifications.add(reminder);
+                }
+            }
+            case SLOTS_GENERATED -> notifications.add(buildSlotGenerationAlert(event));
         }
+        return notifications;
     }
-    
-    @Async
-    public void sendCancellationNotice(InterviewSlot slot) {
-        try {
-            String subject = "Interview Cancellation Notice";
-            String content = emailService.generateCancellationEmail(
-                slot.getCandidateName(),
-                slot.getInterviewer().getName(),
-                slot.getStartTime().format(DATE_FORMATTER),
-                slot.getStartTime().format(TIME_FORMATTER)
-            );
-            
-            Notification notification = new Notification(
-                slot.getCandidateEmail(),
-                subject,
-                content,
-                Notification.NotificationType.CANCELLATION_NOTICE
-            );
-            notification.setInterviewSlotId(slot.getId());
-            notification.setInterviewerId(slot.getInterviewer().getId());
-            
-            saveAndSendNotification(notification);
-            
-        } catch (Exception e) {
-            logger.error("Error sending cancellation notice for slot {}: {}", slot.getId(), e.getMessage());
+
+    // Returns the ids of the reminders cancelled, so callers can drop them from the wheel
+    public List<Long> cancelPendingReminders(Collection<Long> slotIds) {
+        if (slotIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = notificationRepository.findPendingReminderIds(slotIds);
+        if (!ids.isEmpty()) {
+            notificationRepository.cancelPending(ids);
         }
+        return ids;
     }
-    
-    @Async
-    public void scheduleInterviewReminder(InterviewSlot slot) {
+
+    public List<Notification> saveAll(List<Notification> notifications) {
+        return notificationRepository.saveAll(notifications);
+    }
+
+    private Notification buildBookingConfirmation(OutboxEvent event) {
+        return slotNotification(event, Notification.NotificationType.BOOKING_CONFIRMATION, slotValues(event));
+    }
+
+    private Notification buildCancellationNotice(OutboxEvent event) {
+        return slotNotification(event, Notification.NotificationType.CANCELLATION_NOTICE, slotValues(event));
+    }
+
+    private Notification buildBookingUpdate(OutboxEvent event) {
+        Map<String, String> values = slotValues(event);
+        values.put("previousDate", event.getPreviousStartTime().format(DATE_FORMATTER));
+        values.put("previousTime", event.getPreviousStartTime().format(TIME_FORMATTER));
+        return slotNotification(event, Notification.NotificationType.BOOKING_UPDATE, values);
+    }
+
+    private Notification buildInterviewReminder(OutboxEvent event) {
+        // Schedule reminder 24 hours before the interview
+        LocalDateTime reminderTime = event.getStartTime().minusHours(24);
+
+        // Only schedule if the reminder time is in the future
+        if (!reminderTime.isAfter(LocalDateTime.now())) {
+            return null;
+        }
+
+        Notification notification = slotNotification(event, Notification.NotificationType.INTERVIEW_REMINDER, slotValues(event));
+        notification.setScheduledFor(reminderTime);
+        return notification;
+    }
+
+    private Notification buildSlotGenerationAlert(OutboxEvent event) {
+        return buildSlotGenerationDigest(event, event.getSlotCount());
+    }
+
+    // One alert for several generation runs coalesced by NotificationDigestService; the
+    // first event supplies the recipient, slotCount is the total across all of them
+    public Notification buildSlotGenerationDigest(OutboxEvent event, int slotCount) {
+        Map<String, String> values = new HashMap<>();
+        values.put("recipientName", event.getRecipientName());
+        values.put("slotCount", String.valueOf(slotCount));
+
+        Notification notification = render(event, Notification.NotificationType.SLOT_GENERATION_ALERT, values);
+        notification.setInterviewerId(event.getInterviewerId());
+        return notification;
+    }
+
+    private Map<String, String> slotValues(OutboxEvent event) {
+        Map<String, String> values = new HashMap<>();
+        values.put("recipientName", event.getRecipientName());
+        values.put("interviewerName", event.getInterviewerName());
+        values.put("date", event.getStartTime().format(DATE_FORMATTER));
+        values.put("time", event.getStartTime().format(TIME_FORMATTER));
+        return values;
+    }
+
+    private Notification slotNotification(OutboxEvent event, Notification.NotificationType type,
+                                          Map<String, String> values) {
+        Notification notification = render(event, type, values);
+        notification.setInterviewSlotId(event.getInterviewSlotId());
+        notification.setInterviewerId(event.getInterviewerId());
+        return notification;
+    }
+
+    private Notification render(OutboxEvent event, Notification.NotificationType type, Map<String, String> values) {
+        NotificationTemplateService.RenderedMail mail = notificationTemplateService.render(type, values);
+        Notification notification = new Notification(event.getRecipientEmail(), mail.getSubject(), mail.getText(), type);
+        notification.setHtmlContent(mail.getHtml());
+        return notification;
+    }
+
+    // Sends the given notifications if they are still pending and due and no other sender
+    // holds them. Without a surrounding transaction every claim and write-back commits on its own.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void dispatch(Collection<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(notificationIds);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+            claimAndDeliver(chunk, Notification.NotificationStatus.PENDING, LocalDateTime.now());
+        }
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int processPendingNotifications(JobService.Progress progress) {
         try {
-            // Schedule reminder 24 hours before the interview
-            LocalDateTime reminderTime = slot.getStartTime().minusHours(24);
-            
-            // Only schedule if the reminder time is in the future
-            if (reminderTime.isAfter(LocalDateTime.now())) {
-                String subject = "Interview Reminder - Tomorrow";
-                String content = emailService.generateInterviewReminderEmail(
-                    slot.getCandidateName(),
-                    slot.getInterviewer().getName(),
-                    slot.getStartTime().format(DATE_FORMATTER),
-                    slot.getStartTime().format(TIME_FORMATTER)
-                );
-                
-                Notification notification = new Notification(
-                    slot.getCandidateEmail(),
-                    subject,
-                    content,
-                    Notification.NotificationType.INTERVIEW_REMINDER
-                );
-                notification.setInterviewSlotId(slot.getId());
-                notification.setInterviewerId(slot.getInterviewer().getId());
-                notification.setScheduledFor(reminderTime);
-                
-                notificationRepository.save(notification);
-                logger.info("Interview reminder scheduled for slot {} at {}", slot.getId(), reminderTime);
-            }
-            
+            int processed = sweep(Notification.NotificationStatus.PENDING, progress);
+            logger.info("Processed {} pending notifications", processed);
+            return processed;
+
         } catch (Exception e) {
-            logger.error("Error scheduling interview reminder for slot {}: {}", slot.getId(), e.getMessage());
+            logger.error("Error processing pending notifications: {}", e.getMessage());
+            throw e;
         }
     }
-    
-    @Async
-    public void sendSlotGenerationAlert(Interviewer interviewer, int slotsGenerated) {
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int retryFailedNotifications(JobService.Progress progress) {
         try {
-            String subject = "New Interview Slots Generated";
-            String content = emailService.generateSlotGenerationAlert(
-                interviewer.getName(),
-                slotsGenerated
-            );
-            
-            Notification notification = new Notification(
-                interviewer.getEmail(),
-                subject,
-                content,
-                Notification.NotificationType.SLOT_GENERATION_ALERT
-            );
-            notification.setInterviewerId(interviewer.getId());
-            
-            saveAndSendNotification(notification);
-            
+            int retried = sweep(Notification.NotificationStatus.FAILED, progress);
+            logger.info("Retried {} failed notifications", retried);
+            return retried;
+
         } catch (Exception e) {
-            logger.error("Error sending slot generation alert for interviewer {}: {}", interviewer.getId(), e.getMessage());
+            logger.error("Error retrying failed notifications: {}", e.getMessage());
+            throw e;
         }
     }
-    
-    private void saveAndSendNotification(Notification notification) {
-        try {
-            // Save notification to database
-            notification = notificationRepository.save(notification);
-            
-            // Send email
-            boolean sent = emailService.sendEmail(
+
+    // Walks the claimable rows in (due time, id) order one chunk at a time, so memory and
+    // transaction length stay the same however large the backlog is. Each chunk is a range
+    // scan of a (status, due time, id) index from the cursor, so a sweep only touches rows
+    // that are due. The cutoff is fixed when the sweep starts: a row failed earlier in the
+    // same sweep is due after it and is not retried twice.
+    private int sweep(Notification.NotificationStatus status, JobService.Progress progress) {
+        int processed = 0;
+        LocalDateTime cutoff = LocalDateTime.now();
+        LocalDateTime afterTime = SWEEP_FLOOR;
+        long afterId = 0;
+        while (true) {
+            PageRequest chunk = PageRequest.of(0, chunkSize);
+            List<Object[]> due = status == Notification.NotificationStatus.PENDING
+                ? notificationRepository.findDuePending(cutoff, afterTime, afterId, chunk)
+                : notificationRepository.findDueRetries(cutoff, afterTime, afterId, chunk);
+            if (due.isEmpty()) {
+                return processed;
+            }
+            List<Long> ids = new ArrayList<>(due.size());
+            for (Object[] row : due) {
+                ids.add((Long) row[0]);
+            }
+            Object[] last = due.get(due.size() - 1);
+            afterTime = (LocalDateTime) last[1];
+            afterId = (Long) last[0];
+
+            int delivered = claimAndDeliver(ids, status, LocalDateTime.now());
+            processed += delivered;
+            progress.advance(delivered);
+        }
+    }
+
+    // Claims the rows under a fresh token in one short transaction, sends them through the
+    // dispatcher with no transaction open, then writes the outcomes back in one bulk UPDATE
+    // for the sent rows and one JDBC batch for the failed ones.
+    // Rows another node claimed first are simply not in the claim. The lease is renewed
+    // every third of its length while the chunk is sending, so a slow SMTP server never lets
+    // another node re-claim rows still in flight; if this node dies mid-chunk the renewals
+    // stop, the lease runs out and the rows become claimable again.
+    private int claimAndDeliver(List<Long> ids, Notification.NotificationStatus status, LocalDateTime now) {
+        String token = UUID.randomUUID().toString();
+        Integer claimedCount = transactionTemplate.execute(tx -> notificationRepository.claim(
+            ids, status, now, token, now.plusSeconds(leaseSeconds)));
+        if (claimedCount == null || claimedCount == 0) {
+            return 0;
+        }
+
+        List<Notification> claimed = notificationRepository.findClaimed(ids, token);
+        List<MailDispatcher.OutgoingMail> mails = new ArrayList<>(claimed.size());
+        for (Notification notification : claimed) {
+            mails.add(new MailDispatcher.OutgoingMail(
                 notification.getRecipientEmail(),
                 notification.getSubject(),
-                notification.getContent()
-            );
-            
-            // Update notification status
-            if (sent) {
-                notification.setStatus(Notification.NotificationStatus.SENT);
-                notification.setSentAt(LocalDateTime.now());
+                notification.getContent(),
+                notification.getHtmlContent()
+            ));
+        }
+        List<Long> claimedIds = claimed.stream().map(Notification::getId).toList();
+        long renewMillis = Math.max(1, leaseSeconds * 1000 / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(
+            () -> renewLease(claimedIds, token), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        boolean[] delivered;
+        try {
+            delivered = mailDispatcher.sendAll(mails);
+        } finally {
+            renewal.cancel(false);
+        }
+
+        List<Long> sent = new ArrayList<>(claimed.size());
+        List<Notification> failed = new ArrayList<>();
+        for (int i = 0; i < claimed.size(); i++) {
+            if (delivered[i]) {
+                sent.add(claimed.get(i).getId());
             } else {
-                notification.setStatus(Notification.NotificationStatus.FAILED);
-                notification.setErrorMessage("Failed to send email");
+                failed.add(claimed.get(i));
             }
-            
-            notificationRepository.save(notification);
-            
-        } catch (Exception e) {
-            logger.error("Error saving/sending notification: {}", e.getMessage());
         }
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (!sent.isEmpty()) {
+                notificationRepository.markSent(sent, token, finishedAt);
+            }
+            if (!failed.isEmpty()) {
+                jdbcTemplate.batchUpdate(MARK_FAILED_SQL, failed, failed.size(), (ps, notification) -> {
+                    int attempts = notification.getRetryCount() + 1;
+                    LocalDateTime nextAttemptAt = nextAttemptAt(attempts, finishedAt);
+                    ps.setInt(1, attempts);
+                    ps.setTimestamp(2, nextAttemptAt == null ? null : Timestamp.valueOf(nextAttemptAt));
+                    ps.setString(3, nextAttemptAt == null
+                        ? "Failed to send email; gave up after " + attempts + " attempts"
+                        : "Failed to send email");
+                    ps.setLong(4, notification.getId());
+                    ps.setString(5, token);
+                });
+            }
+        });
+        return claimed.size();
     }
-    
-    public void processPendingNotifications() {
+
+    private void renewLease(List<Long> ids, String token) {
         try {
-            List<Notification> pendingNotifications = notificationRepository
-                .findByStatusAndScheduledForBefore(
-                    Notification.NotificationStatus.PENDING,
-                    LocalDateTime.now()
-                );
-            
-            for (Notification notification : pendingNotifications) {
-                boolean sent = emailService.sendEmail(
-                    notification.getRecipientEmail(),
-                    notification.getSubject(),
-                    notification.getContent()
-                );
-                
-                if (sent) {
-                    notification.setStatus(Notification.NotificationStatus.SENT);
-                    notification.setSentAt(LocalDateTime.now());
-                } else {
-                    notification.setStatus(Notification.NotificationStatus.FAILED);
-                    notification.setRetryCount(notification.getRetryCount() + 1);
-                    notification.setErrorMessage("Failed to send email");
-                }
-                
-                notificationRepository.save(notification);
-            }
-            
-            logger.info("Processed {} pending notifications", pendingNotifications.size());
-            
+            transactionTemplate.executeWithoutResult(tx -> notificationRepository.renewLease(
+                ids, token, LocalDateTime.now().plusSeconds(leaseSeconds)));
         } catch (Exception e) {
-            logger.error("Error processing pending notifications: {}", e.getMessage());
+            logger.error("Failed to renew notification lease {}: {}", token, e.getMessage());
         }
     }
-    
-    public void retryFailedNotifications() {
-        try {
-            List<Notification> failedNotifications = notificationRepository
-                .findFailedNotificationsForRetry(Notification.NotificationStatus.FAILED, 3);
-            
-            for (Notification notification : failedNotifications) {
-                boolean sent = emailService.sendEmail(
-                    notification.getRecipientEmail(),
-                    notification.getSubject(),
-                    notification.getContent()
-                );
-                
-                if (sent) {
-                    notification.setStatus(Notification.NotificationStatus.SENT);
-                    notification.setSentAt(LocalDateTime.now());
-                } else {
-                    notification.setRetryCount(notification.getRetryCount() + 1);
-                }
-                
-                notificationRepository.save(notification);
-            }
-            
-            logger.info("Retried {} failed notifications", failedNotifications.size());
-            
-        } catch (Exception e) {
-            logger.error("Error retrying failed notifications: {}", e.getMessage());
+
+    // Exponential backoff from the base delay, capped, with the upper half jittered so rows
+    // that failed together do not all come due together. Null once attempts are used up.
+    private LocalDateTime nextAttemptAt(int attempts, LocalDateTime failedAt) {
+        if (attempts >= maxAttempts) {
+            return null;
         }
+        long delay = Math.min(maxDelaySeconds, baseDelaySeconds << Math.min(attempts - 1, 30));
+        long half = delay / 2;
+        return failedAt.plusSeconds(half + ThreadLocalRandom.current().nextLong(delay - half + 1));
     }
     
     @Transactional(readOnly = true)
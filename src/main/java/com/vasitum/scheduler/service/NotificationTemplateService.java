@@ -0,0 +1,147 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.entity.NotificationTemplate;
+import com.vasitum.scheduler.exception.ResourceNotFoundException;
+import com.vasitum.scheduler.repository.NotificationTemplateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Renders notification mail from templates compiled once and cached. Each part (subject,
+// text, optional HTML) comes from a notification_templates row when one exists, otherwise
+// from the bundled resource mail/<type>.<subject.txt|txt|html>. Saving or removing an
+// override clears this node's cache on commit; other nodes pick it up on the next refresh.
+@Service
+public class NotificationTemplateService {
+
+    private static final int MAX_RETAINED_BUILDER = 64 * 1024;
+
+    // One builder per thread, reused across renders
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(2048));
+
+    @Autowired
+    private NotificationTemplateRepository notificationTemplateRepository;
+
+    private final Map<String, Optional<MailTemplate>> cache = new ConcurrentHashMap<>();
+
+    public static class RenderedMail {
+        private final String subject;
+        private final String text;
+        private final String html;
+
+        RenderedMail(String subject, String text, String html) {
+            this.subject = subject;
+            this.text = text;
+            this.html = html;
+        }
+
+        public String getSubject() { return subject; }
+        public String getText() { return text; }
+        // Null when the type has no HTML template
+        public String getHtml() { return html; }
+    }
+
+    public RenderedMail render(Notification.NotificationType type, Map<String, String> values) {
+        String subject = render(type, NotificationTemplate.Variant.SUBJECT, values);
+        String text = render(type, NotificationTemplate.Variant.TEXT, values);
+        if (subject == null || text == null) {
+            throw new IllegalStateException("No subject or text template for " + type);
+        }
+        return new RenderedMail(subject.strip(), text, render(type, NotificationTemplate.Variant.HTML, values));
+    }
+
+    private String render(Notification.NotificationType type, NotificationTemplate.Variant variant,
+                          Map<String, String> values) {
+        MailTemplate template = template(type, variant);
+        if (template == null) {
+            return null;
+        }
+        StringBuilder out = BUILDER.get();
+        out.setLength(0);
+        String rendered = template.render(out, values).toString();
+        if (out.capacity() > MAX_RETAINED_BUILDER) {
+            BUILDER.remove();
+        }
+        return rendered;
+    }
+
+    MailTemplate template(Notification.NotificationType type, NotificationTemplate.Variant variant) {
+        return cache.computeIfAbsent(type + "." + variant, key -> {
+            String source = source(type, variant);
+            return Optional.ofNullable(source == null ? null
+                : MailTemplate.compile(source, variant == NotificationTemplate.Variant.HTML));
+        }).orElse(null);
+    }
+
+    // The override if there is one, else the bundled resource, else null
+    @Transactional(readOnly = true)
+    public String getSource(Notification.NotificationType type, NotificationTemplate.Variant variant) {
+        String source = source(type, variant);
+        if (source == null) {
+            throw new ResourceNotFoundException("No " + variant + " template for " + type);
+        }
+        return source;
+    }
+
+    @Transactional
+    public NotificationTemplate saveOverride(Notification.NotificationType type, NotificationTemplate.Variant variant,
+                                             String body) {
+        // Fails with IllegalArgumentException before anything is stored
+        MailTemplate.compile(body, variant == NotificationTemplate.Variant.HTML);
+
+        NotificationTemplate template = notificationTemplateRepository.findByTypeAndVariant(type, variant)
+            .orElseGet(() -> new NotificationTemplate(type, variant, body));
+        template.setBody(body);
+        NotificationTemplate saved = notificationTemplateRepository.save(template);
+        AfterCommit.run(this::invalidate);
+        return saved;
+    }
+
+    @Transactional
+    public void deleteOverride(Notification.NotificationType type, NotificationTemplate.Variant variant) {
+        NotificationTemplate template = notificationTemplateRepository.findByTypeAndVariant(type, variant)
+            .orElseThrow(() -> new ResourceNotFoundException("No " + variant + " override for " + type));
+        notificationTemplateRepository.delete(template);
+        AfterCommit.run(this::invalidate);
+    }
+
+    @Scheduled(fixedRateString = "${app.notifications.templates.refresh-ms:60000}")
+    public void invalidate() {
+        cache.clear();
+    }
+
+    private String source(Notification.NotificationType type, NotificationTemplate.Variant variant) {
+        return notificationTemplateRepository.findByTypeAndVariant(type, variant)
+            .map(NotificationTemplate::getBody)
+            .orElseGet(() -> readResource(type, variant));
+    }
+
+    private static String readResource(Notification.NotificationType type, NotificationTemplate.Variant variant) {
+        String suffix = switch (variant) {
+            case SUBJECT -> ".subject.txt";
+            case TEXT -> ".txt";
+            case HTML -> ".html";
+        };
+        ClassPathResource resource = new ClassPathResource(
+            "mail/" + type.name().toLowerCase().replace('_', '-') + suffix);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.OutboxEvent;
+import com.vasitum.scheduler.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// Events are only ever written as part of the caller's transaction, so a rolled back
+// booking never produces a notification and a committed one always does.
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    public void recordSlotBooked(InterviewSlot slot) {
+        outboxEventRepository.save(OutboxEvent.forSlot(OutboxEvent.EventType.SLOT_BOOKED, slot));
+    }
+
+    public void recordSlotCancelled(InterviewSlot slot) {
+        outboxEventRepository.save(OutboxEvent.forSlot(OutboxEvent.EventType.SLOT_CANCELLED, slot));
+    }
+
+    public void recordBookingMoved(InterviewSlot from, InterviewSlot to) {
+        outboxEventRepository.save(OutboxEvent.forMove(from, to));
+    }
+
+    public int recordCancellationsForRange(Long interviewerId, LocalDateTime from, LocalDateTime to) {
+        return outboxEventRepository.insertEventsForBookingsInRange(
+            OutboxEvent.EventType.SLOT_CANCELLED, interviewerId, from, to, LocalDateTime.now());
+    }
+
+    public void recordSlotsGenerated(Interviewer interviewer, int slotCount) {
+        outboxEventRepository.save(OutboxEvent.forGeneration(interviewer, slotCount));
+    }
+}
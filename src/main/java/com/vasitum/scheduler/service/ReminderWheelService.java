@@ -0,0 +1,150 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.repository.NotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Fires interview reminders at their due time instead of on the next pending sweep.
+// Reminders due within the horizon are held in a TimingWheel and a single ticker thread
+// hands the due ids to NotificationService.dispatch. Its claim re-checks the row, so a
+// reminder cancelled or sent elsewhere fires as a no-op. The database stays the source of
+// truth: the wheel is refilled from it on startup and every reload interval, and the
+// pending sweep still sends anything the wheel missed.
+@Service
+public class ReminderWheelService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderWheelService.class);
+    private static final int LEVELS = 4;
+    private static final int RELOAD_PAGE_SIZE = 1000;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Value("${app.notifications.reminders.wheel.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notifications.reminders.wheel.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${app.notifications.reminders.wheel.horizon-hours:6}")
+    private long horizonHours;
+
+    private TimingWheel wheel;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    void start() {
+        wheel = new TimingWheel(LEVELS, System.currentTimeMillis() / tickMillis);
+        if (!enabled) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::fireDue, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    // Runs on startup and then every reload interval. Re-adding a reminder that is already
+    // in the wheel just moves it, so a reload never duplicates.
+    @Scheduled(fixedDelayString = "${app.notifications.reminders.wheel.reload-interval-ms:600000}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime until = LocalDateTime.now().plusHours(horizonHours);
+            int loaded = 0;
+            long afterId = 0;
+            while (true) {
+                List<Object[]> rows = notificationRepository.findPendingRemindersBefore(
+                    until, afterId, PageRequest.of(0, RELOAD_PAGE_SIZE));
+                synchronized (wheel) {
+                    for (Object[] row : rows) {
+                        wheel.schedule((Long) row[0], deadlineTick((LocalDateTime) row[1]));
+                    }
+                }
+                loaded += rows.size();
+                if (rows.size() < RELOAD_PAGE_SIZE) {
+                    break;
+                }
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+            logger.debug("Loaded {} reminders due within {}h into the wheel", loaded, horizonHours);
+        } catch (Exception e) {
+            logger.error("Error loading reminders into the wheel: {}", e.getMessage());
+        }
+    }
+
+    // O(1); reminders beyond the horizon are left to a later reload
+    public void schedule(Long notificationId, LocalDateTime dueAt) {
+        if (!enabled || !dueAt.isBefore(LocalDateTime.now().plusHours(horizonHours))) {
+            return;
+        }
+        synchronized (wheel) {
+            wheel.schedule(notificationId, deadlineTick(dueAt));
+        }
+    }
+
+    // O(1) per reminder
+    public void cancel(Collection<Long> notificationIds) {
+        synchronized (wheel) {
+            for (Long id : notificationIds) {
+                wheel.cancel(id);
+            }
+        }
+    }
+
+    boolean isScheduled(Long notificationId) {
+        synchronized (wheel) {
+            return wheel.contains(notificationId);
+        }
+    }
+
+    private void fireDue() {
+        try {
+            List<Long> due;
+            synchronized (wheel) {
+                due = wheel.advance(System.currentTimeMillis() / tickMillis);
+            }
+            if (!due.isEmpty()) {
+                notificationService.dispatch(due);
+            }
+        } catch (Exception e) {
+            // The rows stay pending; the pending sweep sends them
+            logger.error("Error firing reminders: {}", e.getMessage());
+        }
+    }
+
+    // Rounded up, so a reminder never fires before its time
+    private long deadlineTick(LocalDateTime dueAt) {
+        long millis = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return (millis + tickMillis - 1) / tickMillis;
+    }
+}
@@ -1,5 +1,8 @@
 package com.vasitum.scheduler.service;
 
+import com.vasitum.scheduler.dto.JobDto;
+import com.vasitum.scheduler.dto.JobDto.JobType;
+import com.vasitum.scheduler.exception.AdmissionRejectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,18 +16,42 @@ public class ScheduledTaskService {
     
     @Autowired
     private NotificationService notificationService;
+
+    @Autowired
+    private JobService jobService;
     
-    // Process pending notifications every 5 minutes
+    // Process pending notifications every 5 minutes. Reminders normally go out on time from
+    // the reminder wheel; this sweep is the backstop for anything it did not hold.
     @Scheduled(fixedRate = 300000) // 5 minutes in milliseconds
     public void processPendingNotifications() {
         logger.debug("Processing pending notifications...");
-        notificationService.processPendingNotifications();
+        try {
+            submitPendingSweep();
+        } catch (AdmissionRejectedException e) {
+            logger.warn("Skipping pending notification sweep: {}", e.getMessage());
+        }
     }
     
-    // Retry failed notifications every 30 minutes
-    @Scheduled(fixedRate = 1800000) // 30 minutes in milliseconds
+    // Retry failed notifications that are due; the due query is indexed, so this can poll often
+    @Scheduled(fixedDelayString = "${app.notifications.retry.sweep-interval-ms:60000}")
     public void retryFailedNotifications() {
         logger.debug("Retrying failed notifications...");
-        notificationService.retryFailedNotifications();
+        try {
+            submitRetrySweep();
+        } catch (AdmissionRejectedException e) {
+            logger.warn("Skipping failed notification retry: {}", e.getMessage());
+        }
+    }
+
+    // Sweeps run as background jobs, so a scheduled run and a manual one for the same
+    // sweep share one job instead of delivering the same notifications twice
+    public JobDto submitPendingSweep() {
+        return jobService.submit(JobType.PROCESS_PENDING_NOTIFICATIONS, "all", progress ->
+            notificationService.processPendingNotifications(progress) + " pending notifications processed");
+    }
+
+    public JobDto submitRetrySweep() {
+        return jobService.submit(JobType.RETRY_FAILED_NOTIFICATIONS, "all", progress ->
+            notificationService.retryFailedNotifications(progress) + " failed notifications retried");
     }
-}
\ No newline at end of file
+}
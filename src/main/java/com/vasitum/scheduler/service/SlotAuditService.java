@@ -0,0 +1,375 @@
+package com.vasitum.scheduler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.SlotAuditRecord.AuditAction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Audit trail for InterviewSlot changes. Callers only take a snapshot while holding the
+// row lock; the record joins an in-memory buffer once the transaction commits and is
+// appended to slot_audit_log in JDBC batches off the request path. Records that do not
+// fit in the buffer, or are still unwritten at shutdown, are appended to a local spill
+// file instead and replayed into the table once the buffer has drained, so none are lost.
+@Service
+public class SlotAuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotAuditService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO slot_audit_log (slot_id, action, actor, occurred_at, " +
+        "before_status, before_candidate_name, before_candidate_email, " +
+        "after_status, after_candidate_name, after_candidate_email) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.audit.buffer-capacity:50000}")
+    private int bufferCapacity;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.audit.spill-file:data/audit-spill.jsonl}")
+    private String spillFile;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private BlockingQueue<AuditEntry> buffer;
+    // The batch being written, or whose write failed and is retried first; at most batch-size
+    private final List<AuditEntry> pending = new ArrayList<>();
+    private final Object flushLock = new Object();
+    // pending.size() for the gauge, which must not wait on a flush
+    private volatile int pendingCount;
+
+    private Path spillPath;
+    private Path replayPath;
+    // Guards the spill file, which committing threads append to when the buffer is full
+    private final Object spillLock = new Object();
+    private BufferedWriter spillWriter;
+
+    private Timer flushLatency;
+    private Counter writtenCounter;
+    private Counter failureCounter;
+    private Counter spilledCounter;
+
+    @PostConstruct
+    void init() {
+        buffer = new LinkedBlockingQueue<>(bufferCapacity);
+        spillPath = Path.of(spillFile);
+        replayPath = spillPath.resolveSibling(spillPath.getFileName() + ".replay");
+
+        meterRegistry.gauge("audit.buffer.depth", this, SlotAuditService::getBufferDepth);
+        flushLatency = Timer.builder("audit.flush.latency")
+            .description("Time to append one batch of audit records")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        writtenCounter = meterRegistry.counter("audit.records.written");
+        failureCounter = meterRegistry.counter("audit.flush.failures");
+        spilledCounter = meterRegistry.counter("audit.records.spilled");
+    }
+
+    public static Snapshot snapshot(InterviewSlot slot) {
+        return new Snapshot(slot.getStatus(), slot.getCandidateName(), slot.getCandidateEmail());
+    }
+
+    public void record(AuditAction action, Long slotId, Snapshot before, Snapshot after) {
+        AuditEntry entry = new AuditEntry(slotId, action, currentActor(), LocalDateTime.now(), before, after);
+        AfterCommit.run(() -> enqueue(entry));
+    }
+
+    public int getBufferDepth() {
+        return buffer.size() + pendingCount;
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:500}")
+    public void flush() {
+        synchronized (flushLock) {
+            while (true) {
+                if (pending.isEmpty()) {
+                    buffer.drainTo(pending, batchSize);
+                    pendingCount = pending.size();
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+
+                if (!write(pending)) {
+                    // Keep the batch; the next flush retries it before taking new entries
+                    return;
+                }
+                pending.clear();
+                pendingCount = 0;
+                if (buffer.isEmpty()) {
+                    replaySpill();
+                    if (buffer.isEmpty()) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    // Runs before the DataSource is closed, after the web server has stopped taking requests
+    @PreDestroy
+    void shutdown() {
+        flush();
+        synchronized (flushLock) {
+            List<AuditEntry> left = new ArrayList<>(pending);
+            buffer.drainTo(left);
+            pending.clear();
+            pendingCount = 0;
+            for (AuditEntry entry : left) {
+                spill(entry);
+            }
+            if (!left.isEmpty()) {
+                logger.warn("{} audit records spilled to {} at shutdown", left.size(), spillPath);
+            }
+        }
+        synchronized (spillLock) {
+            closeSpillWriter();
+        }
+    }
+
+    // Never blocks on the database or waits for the writer on the committing thread. A full
+    // buffer means the writer is down or far behind; the record goes to the spill file.
+    private void enqueue(AuditEntry entry) {
+        if (!buffer.offer(entry)) {
+            spill(entry);
+        }
+    }
+
+    private boolean write(List<AuditEntry> entries) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, entries, batchSize, (ps, entry) -> {
+                ps.setLong(1, entry.slotId);
+                ps.setString(2, entry.action.name());
+                ps.setString(3, entry.actor);
+                ps.setTimestamp(4, Timestamp.valueOf(entry.occurredAt));
+                ps.setString(5, entry.before != null ? entry.before.status.name() : null);
+                ps.setString(6, entry.before != null ? entry.before.candidateName : null);
+                ps.setString(7, entry.before != null ? entry.before.candidateEmail : null);
+                ps.setString(8, entry.after != null ? entry.after.status.name() : null);
+                ps.setString(9, entry.after != null ? entry.after.candidateName : null);
+                ps.setString(10, entry.after != null ? entry.after.candidateEmail : null);
+            });
+            writtenCounter.increment(entries.size());
+            return true;
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            logger.error("Failed to append {} audit records: {}", entries.size(), e.getMessage());
+            return false;
+        } finally {
+            flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // One JSON array per line. If even the spill file cannot be written the record is
+    // logged in full at ERROR level, which is then the only copy.
+    private void spill(AuditEntry entry) {
+        String line;
+        try {
+            line = objectMapper.writeValueAsString(entry.toFields());
+        } catch (IOException e) {
+            logger.error("Failed to serialize audit record for slot {}: {}", entry.slotId, e.getMessage());
+            return;
+        }
+        synchronized (spillLock) {
+            try {
+                if (spillWriter == null) {
+                    if (spillPath.getParent() != null) {
+                        Files.createDirectories(spillPath.getParent());
+                    }
+                    spillWriter = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+                spillWriter.write(line);
+                spillWriter.newLine();
+                spillWriter.flush();
+                spilledCounter.increment();
+            } catch (IOException e) {
+                logger.error("Failed to spill audit record {}: {}", line, e.getMessage());
+            }
+        }
+    }
+
+    // Called under flushLock once the buffer is empty. The spill file is moved aside first so
+    // overflow keeps appending to a fresh one; a replay that fails part way keeps the
+    // unwritten lines for the next flush.
+    private void replaySpill() {
+        try {
+            synchronized (spillLock) {
+                if (!Files.exists(replayPath)) {
+                    if (!Files.exists(spillPath)) {
+                        return;
+                    }
+                    closeSpillWriter();
+                    Files.move(spillPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+
+            long done = 0;
+            List<AuditEntry> batch = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        batch.add(AuditEntry.fromFields(objectMapper.readValue(line, String[].class)));
+                    }
+                    if (batch.size() == batchSize) {
+                        if (!write(batch)) {
+                            keepUnreplayed(done);
+                            return;
+                        }
+                        done += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty() && !write(batch)) {
+                keepUnreplayed(done);
+                return;
+            }
+            Files.delete(replayPath);
+            logger.info("Replayed {} spilled audit records", done + batch.size());
+        } catch (IOException e) {
+            logger.error("Failed to replay spilled audit records: {}", e.getMessage());
+        }
+    }
+
+    private void keepUnreplayed(long done) throws IOException {
+        if (done == 0) {
+            return;
+        }
+        Path rest = replayPath.resolveSibling(replayPath.getFileName() + ".tmp");
+        try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(rest, StandardCharsets.UTF_8)) {
+            String line;
+            long skipped = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (skipped < done) {
+                    skipped++;
+                    continue;
+                }
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        Files.move(rest, replayPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void closeSpillWriter() {
+        if (spillWriter == null) {
+            return;
+        }
+        try {
+            spillWriter.close();
+        } catch (IOException e) {
+            logger.error("Failed to close audit spill file: {}", e.getMessage());
+        }
+        spillWriter = null;
+    }
+
+    private static String currentActor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            String actor = request.getHeader("X-Actor");
+            return actor != null && !actor.isBlank() ? actor : request.getRemoteAddr();
+        }
+        return "system";
+    }
+
+    public static class Snapshot {
+        private final InterviewSlot.SlotStatus status;
+        private final String candidateName;
+        private final String candidateEmail;
+
+        public Snapshot(InterviewSlot.SlotStatus status, String candidateName, String candidateEmail) {
+            this.status = status;
+            this.candidateName = candidateName;
+            this.candidateEmail = candidateEmail;
+        }
+    }
+
+    private static class AuditEntry {
+        final Long slotId;
+        final AuditAction action;
+        final String actor;
+        final LocalDateTime occurredAt;
+        final Snapshot before;
+        final Snapshot after;
+
+        AuditEntry(Long slotId, AuditAction action, String actor, LocalDateTime occurredAt,
+                   Snapshot before, Snapshot after) {
+            this.slotId = slotId;
+            this.action = action;
+            this.actor = actor;
+            this.occurredAt = occurredAt;
+            this.before = before;
+            this.after = after;
+        }
+
+        // The spill file's line format, in INSERT_SQL column order
+        String[] toFields() {
+            return new String[] {
+                slotId.toString(), action.name(), actor, occurredAt.toString(),
+                before != null ? before.status.name() : null,
+                before != null ? before.candidateName : null,
+                before != null ? before.candidateEmail : null,
+                after != null ? after.status.name() : null,
+                after != null ? after.candidateName : null,
+                after != null ? after.candidateEmail : null
+            };
+        }
+
+        static AuditEntry fromFields(String[] fields) {
+            return new AuditEntry(Long.valueOf(fields[0]), AuditAction.valueOf(fields[1]), fields[2],
+                LocalDateTime.parse(fields[3]), snapshotOf(fields[4], fields[5], fields[6]),
+                snapshotOf(fields[7], fields[8], fields[9]));
+        }
+
+        private static Snapshot snapshotOf(String status, String candidateName, String candidateEmail) {
+            return status == null ? null
+                : new Snapshot(InterviewSlot.SlotStatus.valueOf(status), candidateName, candidateEmail);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.AvailabilitySlot;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+// Slot layout rules shared by generation and virtual slots: slot length, the buffer kept
+// between interviews, and the bitmap planner that turns availability rules and existing
+// slots of one day into the start times to offer.
+@Service
+public class SlotCalendar {
+
+    @Value("${app.slots.duration-minutes:60}")
+    private int durationMinutes;
+
+    @Value("${app.slots.buffer-minutes:0}")
+    private int bufferMinutes;
+
+    private Duration slotDuration;
+
+    @PostConstruct
+    void init() {
+        if (durationMinutes <= 0 || durationMinutes % DayBitmap.CELL_MINUTES != 0) {
+            throw new IllegalStateException("app.slots.duration-minutes must be a positive multiple of "
+                + DayBitmap.CELL_MINUTES);
+        }
+        if (bufferMinutes < 0 || bufferMinutes % DayBitmap.CELL_MINUTES != 0) {
+            throw new IllegalStateException("app.slots.buffer-minutes must be a non-negative multiple of "
+                + DayBitmap.CELL_MINUTES);
+        }
+        slotDuration = Duration.ofMinutes(durationMinutes);
+    }
+
+    public Duration getSlotDuration() {
+        return slotDuration;
+    }
+
+    // A planner is not thread-safe; take one per generation run and reuse it for every day
+    public DayPlanner newPlanner() {
+        return new DayPlanner(durationMinutes / DayBitmap.CELL_MINUTES, bufferMinutes / DayBitmap.CELL_MINUTES);
+    }
+
+    public static final class DayPlanner {
+        private final int durationCells;
+        private final int bufferCells;
+
+        private final DayBitmap available = new DayBitmap();
+        private final DayBitmap grid = new DayBitmap();
+        private final DayBitmap busy = new DayBitmap();
+        private final DayBitmap fits = new DayBitmap();
+        private final DayBitmap starts = new DayBitmap();
+
+        DayPlanner(int durationCells, int bufferCells) {
+            this.durationCells = durationCells;
+            this.bufferCells = bufferCells;
+        }
+
+        public void reset() {
+            available.clear();
+            grid.clear();
+            busy.clear();
+        }
+
+        // Adds every active rule for the given day; slots line up on each rule's start
+        public void addRules(List<AvailabilitySlot> rules, DayOfWeek dayOfWeek) {
+            for (int i = 0; i < rules.size(); i++) {
+                AvailabilitySlot rule = rules.get(i);
+                if (rule.getDayOfWeek() == dayOfWeek) {
+                    addAvailability(rule.getStartTime(), rule.getEndTime());
+                }
+            }
+        }
+
+        public void addAvailability(LocalTime start, LocalTime end) {
+            int from = DayBitmap.cellCeil(start.toSecondOfDay() / 60);
+            int to = DayBitmap.cellFloor(end.toSecondOfDay() / 60);
+            available.set(from, to);
+            for (int cell = from; cell < to; cell += durationCells + bufferCells) {
+                grid.set(cell);
+            }
+        }
+
+        public boolean hasAvailability() {
+            return !available.isEmpty();
+        }
+
+        // Marks an existing slot as busy; any part of it that falls on this day counts
+        public void addBusy(LocalDateTime dayStart, LocalDateTime start, LocalDateTime end) {
+            long from = ChronoUnit.MINUTES.between(dayStart, start);
+            long to = ChronoUnit.MINUTES.between(dayStart, end);
+            if (to <= 0 || from >= 24 * 60) {
+                return;
+            }
+            int fromMinute = (int) Math.max(from, 0);
+            int toMinute = (int) Math.min(to, 24 * 60);
+            busy.set(DayBitmap.cellFloor(fromMinute), DayBitmap.cellCeil(toMinute));
+        }
+
+        // Start cells of the slots to create: a grid start is kept when its cells lie inside
+        // the availability, no busy cell is within the buffer of them, and it does not
+        // collide with an earlier start taken from an overlapping rule.
+        public DayBitmap plan() {
+            // Free cells: available minus busy widened by the buffer on both sides
+            fits.copyFrom(busy);
+            for (int shift = 1; shift <= bufferCells; shift++) {
+                fits.orShifted(busy, shift);
+                fits.orShifted(busy, -shift);
+            }
+            starts.copyFrom(available);
+            starts.andNot(fits);
+
+            // A start fits when the next durationCells cells are all free
+            fits.copyFrom(starts);
+            for (int shift = 1; shift < durationCells; shift++) {
+                fits.andShifted(starts, -shift);
+            }
+            fits.and(grid);
+
+            starts.clear();
+            int step = durationCells + bufferCells;
+            for (int cell = fits.nextSetBit(0); cell >= 0; cell = fits.nextSetBit(cell + step)) {
+                starts.set(cell);
+            }
+            return starts;
+        }
+    }
+}
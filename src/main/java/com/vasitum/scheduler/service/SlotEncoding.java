@@ -0,0 +1,32 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.EpochMinuteConverter;
+import com.vasitum.scheduler.entity.InterviewSlot.SlotStatus;
+import com.vasitum.scheduler.entity.SlotStatusCodeConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// Column values for the plain-SQL statements on interview_slots, which bypass the JPA
+// mapping: DATETIME and status names by default, epoch-minute INTs and TINYINT status
+// codes with app.slots.encoding=compact (see CompactSlotEncodingConfig).
+@Service
+public class SlotEncoding {
+
+    @Value("${app.slots.encoding:datetime}")
+    private String encoding;
+
+    public boolean isCompact() {
+        return "compact".equalsIgnoreCase(encoding);
+    }
+
+    public Object time(LocalDateTime time) {
+        return isCompact() ? EpochMinuteConverter.toEpochMinute(time) : Timestamp.valueOf(time);
+    }
+
+    public Object status(SlotStatus status) {
+        return isCompact() ? SlotStatusCodeConverter.toCode(status) : status.name();
+    }
+}
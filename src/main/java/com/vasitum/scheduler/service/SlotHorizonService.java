@@ -0,0 +1,199 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.AvailabilitySlot;
+import com.vasitum.scheduler.entity.SlotHorizonProgress;
+import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.SlotHorizonProgressRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Keeps every interviewer's slots materialized a fixed number of days ahead. Each run
+// reads all active rules in one query, skips interviewers already covered, and extends
+// the rest in partitions on a bounded pool, one transaction per partition. Progress is
+// committed with the slots, so an interrupted run is simply resumed by the next one.
+@Service
+public class SlotHorizonService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotHorizonService.class);
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private SlotHorizonProgressRepository slotHorizonProgressRepository;
+
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Autowired
+    private VirtualSlotService virtualSlotService;
+
+    @Value("${app.slots.horizon-days:14}")
+    private int horizonDays;
+
+    @Value("${app.slots.horizon.threads:4}")
+    private int threads;
+
+    @Value("${app.slots.horizon.partition-size:50}")
+    private int partitionSize;
+
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private ThreadPoolExecutor executor;
+
+    public SlotHorizonService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        // Bounded threads and queue; when the queue is full the submitting thread runs the partition
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(threads * 4),
+            runnable -> {
+                Thread thread = new Thread(runnable, "slot-horizon-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${app.slots.horizon.cron:0 15 2 * * *}")
+    public void scheduledExtend() {
+        extendHorizon();
+    }
+
+    // Returns the number of slots created, or -1 when a run is already in progress
+    public int extendHorizon() {
+        if (virtualSlotService.isEnabled()) {
+            return 0;
+        }
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Slot horizon run already in progress, skipping");
+            return -1;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate target = today.plusDays(horizonDays);
+
+            Map<Long, List<AvailabilitySlot>> rulesByInterviewer = transactionTemplate.execute(status -> {
+                Map<Long, List<AvailabilitySlot>> rules = new TreeMap<>();
+                for (AvailabilitySlot rule : availabilitySlotRepository.findAllActiveSlots()) {
+                    rules.computeIfAbsent(rule.getInterviewer().getId(), id -> new ArrayList<>()).add(rule);
+                }
+                Map<Long, LocalDate> coverage = new HashMap<>();
+                for (SlotHorizonProgress progress : slotHorizonProgressRepository.findAll()) {
+                    coverage.put(progress.getInterviewerId(), progress.getCoveredUntil());
+                }
+                rules.keySet().removeIf(id -> coverage.containsKey(id) && !coverage.get(id).isBefore(target));
+                return rules;
+            });
+
+            return runPartitions(new ArrayList<>(rulesByInterviewer.keySet()), rulesByInterviewer, today, target);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // Materializes the horizon for a given set of interviewers, e.g. a fresh bulk import, on the
+    // same pool and partitions as the nightly run. Partitions lock their interviewers and
+    // re-read coverage, so overlapping with a nightly run does not duplicate work.
+    public int generateFor(Collection<Long> interviewerIds) {
+        if (virtualSlotService.isEnabled() || interviewerIds.isEmpty()) {
+            return 0;
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate target = today.plusDays(horizonDays);
+
+        Map<Long, List<AvailabilitySlot>> rulesByInterviewer = transactionTemplate.execute(status -> {
+            Map<Long, List<AvailabilitySlot>> rules = new TreeMap<>();
+            for (AvailabilitySlot rule : availabilitySlotRepository.findActiveWithInterviewerByInterviewerIds(interviewerIds)) {
+                rules.computeIfAbsent(rule.getInterviewer().getId(), id -> new ArrayList<>()).add(rule);
+            }
+            return rules;
+        });
+        return runPartitions(new ArrayList<>(rulesByInterviewer.keySet()), rulesByInterviewer, today, target);
+    }
+
+    private int runPartitions(List<Long> pending, Map<Long, List<AvailabilitySlot>> rulesByInterviewer,
+                              LocalDate today, LocalDate target) {
+        List<Future<Integer>> partitions = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i += partitionSize) {
+            List<Long> partition = pending.subList(i, Math.min(i + partitionSize, pending.size()));
+            partitions.add(executor.submit(() ->
+                transactionTemplate.execute(status -> extendPartition(partition, rulesByInterviewer, today, target))));
+        }
+
+        int created = 0;
+        int failed = 0;
+        for (Future<Integer> partition : partitions) {
+            try {
+                created += partition.get();
+            } catch (Exception e) {
+                // Other partitions still commit; this one is retried on the next run
+                failed++;
+                logger.error("Slot horizon partition failed: {}", e.getMessage());
+            }
+        }
+
+        logger.info("Slot horizon extended to {} for {} interviewers: {} slots created, {} of {} partitions failed",
+            target, pending.size(), created, failed, partitions.size());
+        return created;
+    }
+
+    // Runs in the caller's transaction. Interviewers are locked in id order, and coverage is
+    // re-read under the lock so a concurrent run or manual generation is not repeated.
+    int extendPartition(List<Long> interviewerIds, Map<Long, List<AvailabilitySlot>> rulesByInterviewer,
+                        LocalDate today, LocalDate target) {
+        int created = 0;
+        for (Long interviewerId : interviewerIds) {
+            if (interviewerRepository.findByIdWithLock(interviewerId).isEmpty()) {
+                continue;
+            }
+            LocalDate from = slotHorizonProgressRepository.findById(interviewerId)
+                .map(SlotHorizonProgress::getCoveredUntil)
+                .filter(coveredUntil -> coveredUntil.isAfter(today))
+                .orElse(today);
+            if (!from.isBefore(target)) {
+                continue;
+            }
+
+            created += interviewerService.materializeSlots(
+                interviewerId, rulesByInterviewer.get(interviewerId), from, target);
+            interviewerService.recordCoverage(interviewerId, target);
+        }
+        return created;
+    }
+}
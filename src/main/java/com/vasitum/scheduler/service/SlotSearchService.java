@@ -0,0 +1,331 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.CommonSlotDto;
+import com.vasitum.scheduler.dto.EarliestSlotsRequest;
+import com.vasitum.scheduler.dto.InterviewSlotDto;
+import com.vasitum.scheduler.dto.TimeWindow;
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.exception.ResourceNotFoundException;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class SlotSearchService {
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private InterviewerLoadTracker loadTracker;
+
+    @Autowired
+    private VirtualSlotService virtualSlotService;
+
+    @Value("${app.slots.search.page-size:20}")
+    private int pageSize;
+
+    @Value("${app.slots.search.max-panel-size:20}")
+    private int maxPanelSize;
+
+    @Value("${app.slots.search.max-horizon-days:56}")
+    private int maxHorizonDays;
+
+    // k-way merge over one lazily paged, start-ordered stream per interviewer. One read of
+    // an index seek per interviewer gives each one's first open start; an interviewer's
+    // stream is only opened once the merge reaches that time. Only stream heads are compared, each
+    // stream fetches a small page at a time, and capacity is spent as slots are picked, so
+    // a stream whose interviewer is full for a week jumps straight to the next week. The
+    // queries are bounded by the interviewers that reach the front, not by the pool size.
+    public List<InterviewSlotDto> findEarliestAvailable(EarliestSlotsRequest request) {
+        List<TimeWindow> windows = normalizeWindows(request.getWindows(), LocalDateTime.now());
+        int limit = request.getLimit();
+        List<InterviewSlotDto> result = new ArrayList<>(limit);
+        if (windows.isEmpty()) {
+            return result;
+        }
+        if (virtualSlotService.isEnabled()) {
+            return findEarliestVirtual(windows, limit);
+        }
+
+        int fetchSize = Math.min(pageSize, limit);
+        PriorityQueue<SlotStream> heads = new PriorityQueue<>(
+            Comparator.comparing((SlotStream stream) -> stream.head.getStartTime())
+                .thenComparing(stream -> stream.head.getId()));
+        // Windows in a gap make these lower bounds, which only opens a stream early
+        List<Object[]> firstStarts = new ArrayList<>();
+        for (Object[] row : interviewSlotRepository.findFirstAvailableStartTimes(
+                windows.get(0).getStart(), windows.get(windows.size() - 1).getEnd())) {
+            if (row[1] != null) {
+                firstStarts.add(row);
+            }
+        }
+        firstStarts.sort(Comparator.comparing(row -> (LocalDateTime) row[1]));
+        int unopened = 0;
+        CapacityBudget budget = new CapacityBudget();
+
+        while (result.size() < limit) {
+            while (unopened < firstStarts.size() && (heads.isEmpty()
+                    || !((LocalDateTime) firstStarts.get(unopened)[1]).isAfter(heads.peek().head.getStartTime()))) {
+                SlotStream stream = new SlotStream((Long) firstStarts.get(unopened)[0], windows, fetchSize);
+                if (stream.advance()) {
+                    heads.add(stream);
+                }
+                unopened++;
+            }
+            if (heads.isEmpty()) {
+                break;
+            }
+
+            SlotStream stream = heads.poll();
+            InterviewSlot slot = stream.head;
+            if (budget.take(stream.interviewerId, slot.getStartTime())) {
+                result.add(new InterviewSlotDto(slot));
+            }
+            if (budget.isSpent(stream.interviewerId, slot.getStartTime())) {
+                stream.skipTo(InterviewerLoadTracker.weekStartOf(slot.getStartTime()).plusWeeks(1));
+            }
+            if (stream.advance()) {
+                heads.add(stream);
+            }
+        }
+        return result;
+    }
+
+    // Start times at which every interviewer in the panel has an AVAILABLE slot and weekly
+    // capacity left. Each interviewer's open start times become bits on a one-minute grid
+    // over the horizon, weeks without capacity are cleared, and the panel is one AND per
+    // interviewer; a single query fetches all the panel's open slots.
+    public List<CommonSlotDto> findCommonAvailability(List<Long> interviewerIds, LocalDateTime from, LocalDateTime to) {
+        Set<Long> panel = new LinkedHashSet<>(interviewerIds);
+        if (panel.isEmpty() || panel.size() > maxPanelSize) {
+            throw new IllegalArgumentException("Panel must contain between 1 and " + maxPanelSize + " interviewers");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime requestedStart = from == null || from.isBefore(now) ? now : from;
+        LocalDateTime start = requestedStart.truncatedTo(ChronoUnit.MINUTES);
+        if (start.isBefore(requestedStart)) {
+            start = start.plusMinutes(1);
+        }
+        LocalDateTime end = to == null ? start.plusWeeks(2) : to;
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("Range end must be after range start");
+        }
+        if (end.isAfter(start.plusDays(maxHorizonDays))) {
+            throw new IllegalArgumentException("Range must not exceed " + maxHorizonDays + " days");
+        }
+        if (interviewerRepository.findByIdInAndDeletedAtIsNull(panel).size() != panel.size()) {
+            throw new ResourceNotFoundException("Interviewer not found");
+        }
+
+        int minutes = (int) Duration.between(start, end).toMinutes();
+        Map<Long, BitSet> openByInterviewer = new HashMap<>();
+        Map<Long, Map<Integer, Long>> slotIdsByInterviewer = new HashMap<>();
+        for (Long id : panel) {
+            openByInterviewer.put(id, new BitSet(minutes));
+            slotIdsByInterviewer.put(id, new HashMap<>());
+        }
+        List<Object[]> openRows = new ArrayList<>();
+        if (virtualSlotService.isEnabled()) {
+            for (InterviewSlot slot : virtualSlotService.findOpenSlots(panel, start, end)) {
+                openRows.add(new Object[] {slot.getInterviewer().getId(), slot.getStartTime(), slot.getId()});
+            }
+        } else {
+            openRows = interviewSlotRepository.findAvailableStartTimes(panel, start, end);
+        }
+        for (Object[] row : openRows) {
+            Long interviewerId = (Long) row[0];
+            LocalDateTime slotStart = (LocalDateTime) row[1];
+            if (slotStart.getSecond() != 0 || slotStart.getNano() != 0) {
+                continue;
+            }
+            int minute = (int) Duration.between(start, slotStart).toMinutes();
+            openByInterviewer.get(interviewerId).set(minute);
+            slotIdsByInterviewer.get(interviewerId).putIfAbsent(minute, (Long) row[2]);
+        }
+
+        BitSet common = new BitSet(minutes);
+        common.set(0, minutes);
+        for (Long id : panel) {
+            common.and(openByInterviewer.get(id));
+        }
+
+        // Drop every week in which some panellist is already at their limit
+        for (LocalDateTime weekStart = InterviewerLoadTracker.weekStartOf(start); weekStart.isBefore(end);
+                weekStart = weekStart.plusWeeks(1)) {
+            for (Long id : panel) {
+                if (loadTracker.getRemainingCapacity(id, weekStart) <= 0) {
+                    int fromBit = (int) Math.max(0, Duration.between(start, weekStart).toMinutes());
+                    int toBit = (int) Math.min(minutes, Duration.between(start, weekStart.plusWeeks(1)).toMinutes());
+                    common.clear(fromBit, toBit);
+                    break;
+                }
+            }
+        }
+
+        List<CommonSlotDto> result = new ArrayList<>();
+        for (int minute = common.nextSetBit(0); minute >= 0; minute = common.nextSetBit(minute + 1)) {
+            List<Long> slotIds = new ArrayList<>(panel.size());
+            for (Long id : panel) {
+                slotIds.add(slotIdsByInterviewer.get(id).get(minute));
+            }
+            result.add(new CommonSlotDto(start.plusMinutes(minute), slotIds));
+        }
+        return result;
+    }
+
+    // Virtual mode: open slots are computed per day, already in start order, so the
+    // windows are walked a day at a time until the limit is reached
+    private List<InterviewSlotDto> findEarliestVirtual(List<TimeWindow> windows, int limit) {
+        List<InterviewSlotDto> result = new ArrayList<>(limit);
+        CapacityBudget budget = new CapacityBudget();
+        LocalDateTime horizonEnd = virtualSlotService.getHorizonEnd();
+        for (TimeWindow window : windows) {
+            LocalDateTime windowEnd = window.getEnd().isAfter(horizonEnd) ? horizonEnd : window.getEnd();
+            LocalDateTime dayFrom = window.getStart();
+            while (dayFrom.isBefore(windowEnd) && result.size() < limit) {
+                LocalDateTime dayTo = dayFrom.toLocalDate().plusDays(1).atStartOfDay();
+                if (dayTo.isAfter(windowEnd)) {
+                    dayTo = windowEnd;
+                }
+                for (InterviewSlot slot : virtualSlotService.findOpenSlots(null, dayFrom, dayTo)) {
+                    if (result.size() == limit) {
+                        break;
+                    }
+                    if (!slot.getEndTime().isAfter(window.getEnd())
+                            && budget.take(slot.getInterviewer().getId(), slot.getStartTime())) {
+                        result.add(new InterviewSlotDto(slot));
+                    }
+                }
+                dayFrom = dayTo;
+            }
+        }
+        return result;
+    }
+
+    // Clamps windows to the future and merges overlaps so streams walk them in order
+    static List<TimeWindow> normalizeWindows(List<TimeWindow> requested, LocalDateTime now) {
+        List<TimeWindow> windows = new ArrayList<>();
+        if (requested == null || requested.isEmpty()) {
+            windows.add(new TimeWindow(now, now.plusWeeks(2)));
+            return windows;
+        }
+
+        List<TimeWindow> sorted = new ArrayList<>();
+        for (TimeWindow window : requested) {
+            LocalDateTime start = window.getStart().isBefore(now) ? now : window.getStart();
+            if (window.getEnd().isAfter(start)) {
+                sorted.add(new TimeWindow(start, window.getEnd()));
+            }
+        }
+        sorted.sort(Comparator.comparing(TimeWindow::getStart));
+
+        for (TimeWindow window : sorted) {
+            TimeWindow last = windows.isEmpty() ? null : windows.get(windows.size() - 1);
+            if (last != null && !window.getStart().isAfter(last.getEnd())) {
+                if (window.getEnd().isAfter(last.getEnd())) {
+                    last.setEnd(window.getEnd());
+                }
+            } else {
+                windows.add(window);
+            }
+        }
+        return windows;
+    }
+
+    // Weekly capacity left per interviewer, seeded from the tracker and spent as slots are
+    // picked, so one interviewer never fills the result with more slots than they can take
+    private class CapacityBudget {
+        private final Map<Long, Map<LocalDateTime, Integer>> remaining = new HashMap<>();
+
+        boolean take(Long interviewerId, LocalDateTime startTime) {
+            Map<LocalDateTime, Integer> weeks = remaining.computeIfAbsent(interviewerId, id -> new HashMap<>());
+            LocalDateTime weekStart = InterviewerLoadTracker.weekStartOf(startTime);
+            int left = weeks.computeIfAbsent(weekStart, week -> loadTracker.getRemainingCapacity(interviewerId, startTime));
+            if (left <= 0) {
+                return false;
+            }
+            weeks.put(weekStart, left - 1);
+            return true;
+        }
+
+        boolean isSpent(Long interviewerId, LocalDateTime startTime) {
+            Map<LocalDateTime, Integer> weeks = remaining.get(interviewerId);
+            Integer left = weeks == null ? null : weeks.get(InterviewerLoadTracker.weekStartOf(startTime));
+            return left != null && left <= 0;
+        }
+    }
+
+    private class SlotStream {
+        private final Long interviewerId;
+        private final List<TimeWindow> windows;
+        private final int fetchSize;
+        private final Deque<InterviewSlot> buffer = new ArrayDeque<>();
+        private int windowIndex;
+        private LocalDateTime afterTime;
+        private Long afterId = 0L;
+        private InterviewSlot head;
+
+        SlotStream(Long interviewerId, List<TimeWindow> windows, int fetchSize) {
+            this.interviewerId = interviewerId;
+            this.windows = windows;
+            this.fetchSize = fetchSize;
+            this.afterTime = windows.get(0).getStart();
+        }
+
+        boolean advance() {
+            while (buffer.isEmpty() && windowIndex < windows.size()) {
+                TimeWindow window = windows.get(windowIndex);
+                if (afterTime.isBefore(window.getStart())) {
+                    afterTime = window.getStart();
+                    afterId = 0L;
+                }
+
+                List<InterviewSlot> page = interviewSlotRepository.findAvailableForInterviewerAfter(
+                    interviewerId, afterTime, afterId, window.getEnd(), PageRequest.of(0, fetchSize));
+                buffer.addAll(page);
+                if (page.size() < fetchSize) {
+                    windowIndex++;
+                } else {
+                    InterviewSlot last = page.get(page.size() - 1);
+                    afterTime = last.getStartTime();
+                    afterId = last.getId();
+                }
+            }
+            head = buffer.poll();
+            return head != null;
+        }
+
+        void skipTo(LocalDateTime time) {
+            buffer.removeIf(slot -> slot.getStartTime().isBefore(time));
+            if (buffer.isEmpty() && afterTime.isBefore(time)) {
+                afterTime = time;
+                afterId = 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.vasitum.scheduler.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Hierarchical timing wheel of ids, in whole ticks. Each level is a ring of 64 buckets and
+// a bucket on level n spans 64^n ticks. A timer sits on the lowest level whose ring reaches
+// its deadline and drops a level each time the ring above turns onto its bucket, so
+// schedule and cancel are O(1) and advancing costs one bucket per tick plus the cascades.
+// Not thread-safe; callers synchronize.
+public final class TimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+
+    private final int levels;
+    private final Node[][] buckets;
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private long currentTick;
+
+    private static final class Node {
+        final long key;
+        final long deadline;
+        Node prev;
+        Node next;
+
+        Node(long key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+
+    public TimingWheel(int levels, long startTick) {
+        this.levels = levels;
+        this.currentTick = startTick;
+        buckets = new Node[levels][SIZE];
+        for (Node[] level : buckets) {
+            for (int i = 0; i < SIZE; i++) {
+                // Sentinel of a circular list
+                Node head = new Node(-1, -1);
+                head.prev = head;
+                head.next = head;
+                level[i] = head;
+            }
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean contains(long key) {
+        return nodes.containsKey(key);
+    }
+
+    // Adds the timer, or moves it if the key is already scheduled. A deadline that has
+    // passed fires on the next tick. Returns false, and drops the key, if the deadline is
+    // beyond what the top level reaches.
+    public boolean schedule(long key, long deadlineTick) {
+        cancel(key);
+        int top = BITS * (levels - 1);
+        if ((deadlineTick >> top) - (currentTick >> top) >= SIZE) {
+            return false;
+        }
+        Node node = new Node(key, deadlineTick);
+        nodes.put(key, node);
+        place(node, currentTick + 1);
+        return true;
+    }
+
+    public boolean cancel(long key) {
+        Node node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    // Moves the wheel up to nowTick and returns the keys that fell due on the way
+    public List<Long> advance(long nowTick) {
+        List<Long> due = new ArrayList<>();
+        while (currentTick < nowTick) {
+            if (nodes.isEmpty()) {
+                currentTick = nowTick;
+                break;
+            }
+            currentTick++;
+            cascade();
+            Node head = buckets[0][(int) (currentTick & MASK)];
+            for (Node node = head.next; node != head; node = head.next) {
+                unlink(node);
+                nodes.remove(node.key);
+                due.add(node.key);
+            }
+        }
+        return due;
+    }
+
+    // When the low bits of the tick wrap to zero, the level above has turned onto its next
+    // bucket and those timers move down. Higher levels go first so a timer that lands on a
+    // level being cascaded in the same tick is still moved.
+    private void cascade() {
+        int turned = 0;
+        while (turned + 1 < levels && (currentTick & ((1L << (BITS * (turned + 1))) - 1)) == 0) {
+            turned++;
+        }
+        for (int level = turned; level >= 1; level--) {
+            Node head = buckets[level][(int) ((currentTick >> (BITS * level)) & MASK)];
+            for (Node node = head.next; node != head; node = head.next) {
+                unlink(node);
+                // Due this very tick: lands in the level-0 bucket drained right after
+                place(node, currentTick);
+            }
+        }
+    }
+
+    private void place(Node node, long earliest) {
+        long deadline = Math.max(node.deadline, earliest);
+        for (int level = 0; level < levels; level++) {
+            int shift = BITS * level;
+            if ((deadline >> shift) - (currentTick >> shift) < SIZE) {
+                Node head = buckets[level][(int) ((deadline >> shift) & MASK)];
+                node.prev = head.prev;
+                node.next = head;
+                head.prev.next = node;
+                head.prev = node;
+                return;
+            }
+        }
+        throw new IllegalStateException("Deadline beyond wheel: " + node.deadline);
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+}
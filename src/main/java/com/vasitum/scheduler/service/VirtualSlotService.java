@@ -0,0 +1,232 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.AvailabilitySlot;
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.exception.ResourceNotFoundException;
+import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Virtual slot mode (app.slots.mode=virtual): open slots are computed from the active
+// AvailabilitySlot rules minus existing rows, and an InterviewSlot row is only inserted
+// when a slot is booked or blocked. A slot that has no row yet is exposed with a negative
+// id encoding its interviewer and start minute, so clients use it exactly like a real id.
+@Service
+@Transactional
+public class VirtualSlotService {
+
+    private static final String INSERT_SLOT_SQL = "INSERT INTO interview_slots " +
+        "(interviewer_id, start_time, end_time, status, version, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    static final Comparator<InterviewSlot> START_ORDER = Comparator
+        .comparing(InterviewSlot::getStartTime)
+        .thenComparing(slot -> slot.getInterviewer().getId())
+        .thenComparing(InterviewSlot::getId);
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private SlotEncoding slotEncoding;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SlotCalendar slotCalendar;
+
+    @Value("${app.slots.mode:materialized}")
+    private String mode;
+
+    @Value("${app.slots.horizon-days:14}")
+    private int horizonDays;
+
+    public boolean isEnabled() {
+        return "virtual".equalsIgnoreCase(mode);
+    }
+
+    // Virtual slots are offered up to the same horizon the materialized mode generates
+    public LocalDateTime getHorizonEnd() {
+        return LocalDate.now().plusDays(horizonDays).atStartOfDay();
+    }
+
+    public static boolean isVirtualId(Long slotId) {
+        return slotId != null && slotId < 0;
+    }
+
+    public static long encodeId(Long interviewerId, LocalDateTime startTime) {
+        long epochMinute = startTime.toEpochSecond(ZoneOffset.UTC) / 60;
+        return -((interviewerId << 32) | epochMinute);
+    }
+
+    static Long decodeInterviewerId(long virtualId) {
+        return -virtualId >>> 32;
+    }
+
+    static LocalDateTime decodeStartTime(long virtualId) {
+        return LocalDateTime.ofEpochSecond(((-virtualId) & 0xFFFFFFFFL) * 60, 0, ZoneOffset.UTC);
+    }
+
+    // Open slots starting in [from, to), ordered by start, interviewer and id: AVAILABLE rows
+    // plus rule-generated hours with no row at all. Unpersisted slots carry their virtual id.
+    @Transactional(readOnly = true)
+    public List<InterviewSlot> findOpenSlots(Collection<Long> interviewerIds, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime horizonEnd = getHorizonEnd();
+        if (to.isAfter(horizonEnd)) {
+            to = horizonEnd;
+        }
+        List<InterviewSlot> open = new ArrayList<>();
+        if (!to.isAfter(from)) {
+            return open;
+        }
+
+        List<AvailabilitySlot> rules = interviewerIds == null
+            ? availabilitySlotRepository.findAllActiveWithInterviewer()
+            : availabilitySlotRepository.findActiveWithInterviewerByInterviewerIds(interviewerIds);
+        List<InterviewSlot> rows = interviewerIds == null
+            ? interviewSlotRepository.findAllStartingBetween(from, to)
+            : interviewSlotRepository.findAllStartingBetweenForInterviewers(interviewerIds, from, to);
+
+        // Any row, whatever its status, shadows the virtual slot at the same start
+        Set<Long> shadowed = new HashSet<>();
+        for (InterviewSlot row : rows) {
+            shadowed.add(encodeId(row.getInterviewer().getId(), row.getStartTime()));
+            if (row.getStatus() == InterviewSlot.SlotStatus.AVAILABLE) {
+                open.add(row);
+            }
+        }
+
+        Map<Long, List<AvailabilitySlot>> rulesByInterviewer = new LinkedHashMap<>();
+        for (AvailabilitySlot rule : rules) {
+            rulesByInterviewer.computeIfAbsent(rule.getInterviewer().getId(), id -> new ArrayList<>()).add(rule);
+        }
+
+        SlotCalendar.DayPlanner planner = slotCalendar.newPlanner();
+        for (LocalDate date = from.toLocalDate(); date.atStartOfDay().isBefore(to); date = date.plusDays(1)) {
+            LocalDateTime dayStart = date.atStartOfDay();
+            for (List<AvailabilitySlot> interviewerRules : rulesByInterviewer.values()) {
+                Interviewer interviewer = interviewerRules.get(0).getInterviewer();
+                DayBitmap starts = plan(planner, interviewerRules, date);
+                for (int cell = starts.nextSetBit(0); cell >= 0; cell = starts.nextSetBit(cell + 1)) {
+                    LocalDateTime start = dayStart.plusMinutes((long) cell * DayBitmap.CELL_MINUTES);
+                    if (!start.isBefore(from) && start.isBefore(to)
+                            && shadowed.add(encodeId(interviewer.getId(), start))) {
+                        open.add(virtualSlot(interviewer, start));
+                    }
+                }
+            }
+        }
+
+        open.sort(START_ORDER);
+        return open;
+    }
+
+    // The slot a virtual id stands for: its row if one exists, otherwise an unpersisted slot
+    @Transactional(readOnly = true)
+    public InterviewSlot findSlot(Long virtualId) {
+        Long interviewerId = decodeInterviewerId(virtualId);
+        LocalDateTime start = decodeStartTime(virtualId);
+        return interviewSlotRepository.findIdByInterviewerAndStartTime(interviewerId, start)
+            .flatMap(interviewSlotRepository::findById)
+            .orElseGet(() -> virtualSlot(ruleFor(interviewerId, start).getInterviewer(), start));
+    }
+
+    // Returns the real id behind a virtual id, inserting an AVAILABLE row if none exists.
+    // Concurrent callers race on the unique (interviewer_id, start_time) constraint, so at
+    // most one row is created; the booking itself is then decided under the row lock.
+    public Long materialize(Long virtualId) {
+        Long interviewerId = decodeInterviewerId(virtualId);
+        LocalDateTime start = decodeStartTime(virtualId);
+
+        return interviewSlotRepository.findIdByInterviewerAndStartTime(interviewerId, start)
+            .orElseGet(() -> {
+                ruleFor(interviewerId, start);
+                if (!start.isBefore(getHorizonEnd())) {
+                    throw new ResourceNotFoundException("Interview slot not found");
+                }
+                insert(interviewerId, start, InterviewSlot.SlotStatus.AVAILABLE);
+                // A locking read sees a row committed by the winner of an insert race
+                return interviewSlotRepository.findIdByInterviewerAndStartTimeWithLock(interviewerId, start)
+                    .orElseThrow(() -> new ResourceNotFoundException("Interview slot not found"));
+            });
+    }
+
+    // Inserts rows with the given status for every rule hour in [from, to) that has none,
+    // so a range block also covers slots that were never materialized
+    public int materializeRange(Long interviewerId, LocalDateTime from, LocalDateTime to, InterviewSlot.SlotStatus status) {
+        List<AvailabilitySlot> rules = availabilitySlotRepository.findByInterviewerIdAndIsActiveTrue(interviewerId);
+        Set<LocalDateTime> taken = new HashSet<>(
+            interviewSlotRepository.findStartTimesInRange(interviewerId, from, to));
+
+        int inserted = 0;
+        SlotCalendar.DayPlanner planner = slotCalendar.newPlanner();
+        for (LocalDate date = from.toLocalDate(); date.atStartOfDay().isBefore(to); date = date.plusDays(1)) {
+            DayBitmap starts = plan(planner, rules, date);
+            for (int cell = starts.nextSetBit(0); cell >= 0; cell = starts.nextSetBit(cell + 1)) {
+                LocalDateTime start = date.atStartOfDay().plusMinutes((long) cell * DayBitmap.CELL_MINUTES);
+                if (!start.isBefore(from) && start.isBefore(to) && taken.add(start)) {
+                    insert(interviewerId, start, status);
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private AvailabilitySlot ruleFor(Long interviewerId, LocalDateTime start) {
+        List<AvailabilitySlot> rules = availabilitySlotRepository.findByInterviewerIdAndIsActiveTrue(interviewerId);
+        int minuteOfDay = start.toLocalTime().toSecondOfDay() / 60;
+        if (!rules.isEmpty() && start.getSecond() == 0 && start.getNano() == 0
+                && minuteOfDay % DayBitmap.CELL_MINUTES == 0
+                && plan(slotCalendar.newPlanner(), rules, start.toLocalDate()).get(minuteOfDay / DayBitmap.CELL_MINUTES)) {
+            return rules.get(0);
+        }
+        throw new ResourceNotFoundException("Interview slot not found");
+    }
+
+    // Virtual starts depend on the rules alone, so they stay put as rows come and go
+    private static DayBitmap plan(SlotCalendar.DayPlanner planner, List<AvailabilitySlot> rules, LocalDate date) {
+        planner.reset();
+        planner.addRules(rules, date.getDayOfWeek());
+        return planner.plan();
+    }
+
+    private InterviewSlot virtualSlot(Interviewer interviewer, LocalDateTime start) {
+        InterviewSlot slot = new InterviewSlot(interviewer, start, start.plus(slotCalendar.getSlotDuration()));
+        slot.setId(encodeId(interviewer.getId(), start));
+        return slot;
+    }
+
+    private void insert(Long interviewerId, LocalDateTime start, InterviewSlot.SlotStatus status) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update(INSERT_SLOT_SQL, interviewerId, slotEncoding.time(start),
+                slotEncoding.time(start.plus(slotCalendar.getSlotDuration())), slotEncoding.status(status), now, now);
+        } catch (DuplicateKeyException e) {
+            // Another transaction inserted it first; its row is used instead
+        }
+    }
+}
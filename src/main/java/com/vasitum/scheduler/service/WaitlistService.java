@@ -0,0 +1,104 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.JoinWaitlistRequest;
+import com.vasitum.scheduler.dto.WaitlistEntryDto;
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.WaitlistEntry;
+import com.vasitum.scheduler.exception.ResourceNotFoundException;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.WaitlistEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class WaitlistService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistService.class);
+
+    private static final int CLAIM_CANDIDATES = 5;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    public WaitlistEntryDto joinWaitlist(JoinWaitlistRequest request) {
+        if (!request.getWindowEnd().isAfter(request.getWindowStart())) {
+            throw new IllegalArgumentException("Waitlist window end must be after window start");
+        }
+        if (!request.getWindowEnd().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Waitlist window must end in the future");
+        }
+
+        Interviewer interviewer = interviewerRepository.findByIdAndDeletedAtIsNull(request.getInterviewerId())
+            .orElseThrow(() -> new ResourceNotFoundException("Interviewer not found"));
+
+        WaitlistEntry entry = new WaitlistEntry(
+            interviewer,
+            request.getWindowStart(),
+            request.getWindowEnd(),
+            request.getCandidateName(),
+            request.getCandidateEmail()
+        );
+        entry = waitlistEntryRepository.save(entry);
+        return new WaitlistEntryDto(entry);
+    }
+
+    public void leaveWaitlist(Long entryId) {
+        WaitlistEntry entry = waitlistEntryRepository.findById(entryId)
+            .orElseThrow(() -> new ResourceNotFoundException("Waitlist entry not found"));
+        waitlistEntryRepository.delete(entry);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WaitlistEntryDto> getEntriesByEmail(String email) {
+        return waitlistEntryRepository.findByCandidateEmailOrderByCreatedAtDesc(email).stream()
+            .map(WaitlistEntryDto::new)
+            .collect(Collectors.toList());
+    }
+
+    // An entry whose window has closed can never be handed a slot
+    @Scheduled(fixedDelayString = "${app.waitlist.purge-interval-ms:3600000}")
+    public int purgeExpired() {
+        int purged = waitlistEntryRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            logger.info("Purged {} expired waitlist entries", purged);
+        }
+        return purged;
+    }
+
+    // Removes and returns the longest-waiting entry whose window covers the slot.
+    // Runs inside the transaction that frees the slot so the hand-off is atomic.
+    // Only the chosen entry is locked. The candidate read is a snapshot, so an entry a
+    // concurrent claim already took is skipped in favour of the next one.
+    public Optional<WaitlistEntry> claimNextWaiter(InterviewSlot slot, String excludedEmail) {
+        List<Long> waiterIds = waitlistEntryRepository.findEligibleWaiterIds(
+            slot.getInterviewer().getId(),
+            slot.getStartTime(),
+            slot.getEndTime(),
+            excludedEmail != null ? excludedEmail : "",
+            PageRequest.of(0, CLAIM_CANDIDATES)
+        );
+        for (Long waiterId : waiterIds) {
+            Optional<WaitlistEntry> waiter = waitlistEntryRepository.findByIdWithLock(waiterId);
+            if (waiter.isPresent()) {
+                waitlistEntryRepository.delete(waiter.get());
+                return waiter;
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -44,7 +44,8 @@ async function generateSlots(interviewerId) {
         });
 
         if (response.ok) {
-            alert('Slots generated successfully!');
+            const job = await response.json();
+            alert('Slot generation started (job ' + job.jobId + ')');
         } else {
             alert('Error generating slots');
         }
@@ -82,7 +83,7 @@ async function editInterviewer(interviewerId) {
 }
 
 async function deleteInterviewer(interviewerId) {
-    if (!confirm('Are you sure you want to delete this interviewer? This will also delete all their slots.')) {
+    if (!confirm('Are you sure you want to delete this interviewer? Their future bookings will be cancelled.')) {
         return;
     }
     
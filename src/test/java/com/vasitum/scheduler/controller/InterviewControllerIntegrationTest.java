@@ -136,6 +136,27 @@ class InterviewControllerIntegrationTest {
                 .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"));
     }
 
+    @Test
+    void testBookSlotRateLimitedPerCandidate() throws Exception {
+        BookSlotRequest request = new BookSlotRequest(999L, "Eager User", "eager@example.com");
+        String body = objectMapper.writeValueAsString(request);
+
+        // Burst allowance is spent on requests that fail normally
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/v1/interview-slots/book")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isNotFound());
+        }
+
+        mockMvc.perform(post("/api/v1/interview-slots/book")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+    }
+
     @Test
     void testGetInterviewer() throws Exception {
         mockMvc.perform(get("/api/v1/interviewers/{id}", testInterviewer.getId()))
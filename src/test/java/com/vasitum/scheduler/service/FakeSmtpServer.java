@@ -0,0 +1,123 @@
+package com.vasitum.scheduler.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Minimal SMTP server for tests: accepts every command, records the recipients of each
+// accepted message and counts connections. Mail to stallRecipient is held before the
+// final reply for stallMillis, to exercise client timeouts.
+class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fake-smtp");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Queue<String> recipients = new ConcurrentLinkedQueue<>();
+
+    private volatile String stallRecipient;
+    private volatile long stallMillis;
+
+    FakeSmtpServer() throws IOException {
+        serverSocket = new ServerSocket(0, 100, InetAddress.getLoopbackAddress());
+        connections.execute(this::accept);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    Queue<String> getRecipients() {
+        return recipients;
+    }
+
+    void stallOn(String recipient, long millis) {
+        stallRecipient = recipient;
+        stallMillis = millis;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connectionCount.incrementAndGet();
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream out = socket.getOutputStream();
+            reply(out, "220 fake ESMTP");
+            List<String> current = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                switch (command) {
+                    case "EHLO", "HELO", "NOOP" -> reply(out, "250 OK");
+                    case "MAIL", "RSET" -> {
+                        current.clear();
+                        reply(out, "250 OK");
+                    }
+                    case "RCPT" -> {
+                        current.add(line.substring(line.indexOf('<') + 1, line.indexOf('>')));
+                        reply(out, "250 OK");
+                    }
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // Message body is not kept
+                        }
+                        if (current.contains(stallRecipient)) {
+                            Thread.sleep(stallMillis);
+                        }
+                        recipients.addAll(current);
+                        current.clear();
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // Client went away
+        }
+    }
+
+    private void reply(OutputStream out, String line) throws IOException {
+        out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+    }
+}
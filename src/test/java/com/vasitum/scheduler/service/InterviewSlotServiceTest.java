@@ -1,16 +1,24 @@
 package com.vasitum.scheduler.service;
 
+import com.vasitum.scheduler.dto.BookAnyRequest;
 import com.vasitum.scheduler.dto.BookSlotRequest;
+import com.vasitum.scheduler.dto.BookingOutcome;
+import com.vasitum.scheduler.dto.BulkBlockResult;
 import com.vasitum.scheduler.dto.InterviewSlotDto;
+import com.vasitum.scheduler.dto.JoinWaitlistRequest;
 import com.vasitum.scheduler.dto.PaginatedResponse;
 import com.vasitum.scheduler.entity.AvailabilitySlot;
 import com.vasitum.scheduler.entity.InterviewSlot;
 import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.WaitlistEntry;
 import com.vasitum.scheduler.exception.ResourceNotFoundException;
 import com.vasitum.scheduler.exception.SlotBookingException;
 import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
 import com.vasitum.scheduler.repository.InterviewSlotRepository;
 import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.OutboxEventRepository;
+import com.vasitum.scheduler.repository.WaitlistEntryRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -43,6 +52,21 @@ class InterviewSlotServiceTest {
     @Autowired
     private AvailabilitySlotRepository availabilitySlotRepository;
 
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private InterviewerLoadTracker loadTracker;
+
     private Interviewer testInterviewer;
     private InterviewSlot testSlot;
 
@@ -70,13 +94,21 @@ class InterviewSlotServiceTest {
     @Test
     void testGetAvailableSlots() {
         PaginatedResponse<InterviewSlotDto> response = interviewSlotService.getAvailableSlots(null, 10);
-        
+
         assertNotNull(response);
         assertFalse(response.getData().isEmpty());
         assertTrue(response.getData().size() >= 1);
-        // Find our test slot in the response
-        boolean foundTestSlot = response.getData().stream()
-            .anyMatch(slot -> slot.getId().equals(testSlot.getId()));
+        // Find our test slot in the response; pages are in id order and the seeded slots come
+        // first, so follow the cursor until it shows up
+        boolean foundTestSlot = false;
+        while (true) {
+            foundTestSlot = response.getData().stream()
+                .anyMatch(slot -> slot.getId().equals(testSlot.getId()));
+            if (foundTestSlot || !response.isHasNext()) {
+                break;
+            }
+            response = interviewSlotService.getAvailableSlots(response.getNextCursor(), 100);
+        }
         assertTrue(foundTestSlot, "Test slot should be found in available slots");
     }
 
@@ -135,6 +167,76 @@ class InterviewSlotServiceTest {
         });
     }
 
+    @Test
+    void testBookSlotsBatchDecidesInOrder() {
+        InterviewSlot otherSlot = interviewSlotRepository.save(new InterviewSlot(
+            testInterviewer,
+            testSlot.getStartTime().plusHours(2),
+            testSlot.getEndTime().plusHours(2)
+        ));
+
+        List<BookingOutcome> outcomes = interviewSlotService.bookSlots(List.of(
+            new BookSlotRequest(testSlot.getId(), "User1", "user1@example.com"),
+            new BookSlotRequest(testSlot.getId(), "User2", "user2@example.com"),
+            new BookSlotRequest(999L, "User3", "user3@example.com"),
+            new BookSlotRequest(otherSlot.getId(), "User4", "user4@example.com")
+        ));
+
+        assertEquals(4, outcomes.size());
+        assertTrue(outcomes.get(0).isBooked());
+        assertEquals("User1", outcomes.get(0).getSlot().getCandidateName());
+        assertFalse(outcomes.get(1).isBooked());
+        assertEquals("SLOT_BOOKING_ERROR", outcomes.get(1).getErrorCode());
+        assertEquals("RESOURCE_NOT_FOUND", outcomes.get(2).getErrorCode());
+        assertTrue(outcomes.get(3).isBooked());
+    }
+
+    @Test
+    void testBookAnyPrefersInterviewerWithMostRemainingCapacity() {
+        LocalDateTime startTime = testSlot.getStartTime().plusMinutes(7);
+        Interviewer busy = interviewerRepository.save(new Interviewer("Busy", "busy@example.com", 2));
+        Interviewer idle = interviewerRepository.save(new Interviewer("Idle", "idle@example.com", 5));
+
+        InterviewSlot alreadyBooked = new InterviewSlot(busy, startTime.plusMinutes(1), startTime.plusMinutes(61));
+        alreadyBooked.setStatus(InterviewSlot.SlotStatus.BOOKED);
+        interviewSlotRepository.save(alreadyBooked);
+        InterviewSlot busySlot = interviewSlotRepository.save(new InterviewSlot(busy, startTime, startTime.plusHours(1)));
+        InterviewSlot idleSlot = interviewSlotRepository.save(new InterviewSlot(idle, startTime, startTime.plusHours(1)));
+        loadTracker.refresh();
+
+        InterviewSlotDto first = interviewSlotService.bookAnyInterviewer(
+            new BookAnyRequest(startTime, "User1", "user1@example.com"));
+        assertEquals(idleSlot.getId(), first.getId());
+
+        // The idle interviewer's slot is gone, so the next request falls through to the busy one
+        InterviewSlotDto second = interviewSlotService.bookAnyInterviewer(
+            new BookAnyRequest(startTime, "User2", "user2@example.com"));
+        assertEquals(busySlot.getId(), second.getId());
+
+        assertThrows(SlotBookingException.class, () -> interviewSlotService.bookAnyInterviewer(
+            new BookAnyRequest(startTime, "User3", "user3@example.com")));
+    }
+
+    @Test
+    void testBookSlotsBatchRespectsWeeklyCapacity() {
+        testInterviewer.setMaxInterviewsPerWeek(1);
+        interviewerRepository.save(testInterviewer);
+        InterviewSlot otherSlot = interviewSlotRepository.save(new InterviewSlot(
+            testInterviewer,
+            testSlot.getStartTime().plusHours(2),
+            testSlot.getEndTime().plusHours(2)
+        ));
+
+        List<BookingOutcome> outcomes = interviewSlotService.bookSlots(List.of(
+            new BookSlotRequest(testSlot.getId(), "User1", "user1@example.com"),
+            new BookSlotRequest(otherSlot.getId(), "User2", "user2@example.com")
+        ));
+
+        assertTrue(outcomes.get(0).isBooked());
+        assertFalse(outcomes.get(1).isBooked());
+        assertEquals("Interviewer has reached maximum interviews for this week", outcomes.get(1).getMessage());
+    }
+
     @Test
     void testUpdateSlot() {
         // First book the slot
@@ -164,6 +266,158 @@ class InterviewSlotServiceTest {
         assertNull(result.getCandidateEmail());
     }
 
+    @Test
+    void testCancelSlotBackfillsFromWaitlist() {
+        interviewSlotService.bookSlot(new BookSlotRequest(testSlot.getId(), "Jane Smith", "jane@example.com"));
+
+        // Window that does not cover the slot should be skipped
+        waitlistService.joinWaitlist(new JoinWaitlistRequest(
+            testInterviewer.getId(),
+            testSlot.getEndTime(),
+            testSlot.getEndTime().plusHours(3),
+            "Late Waiter", "late@example.com"
+        ));
+        waitlistService.joinWaitlist(new JoinWaitlistRequest(
+            testInterviewer.getId(),
+            testSlot.getStartTime().minusHours(1),
+            testSlot.getEndTime().plusHours(1),
+            "First Waiter", "first@example.com"
+        ));
+        waitlistService.joinWaitlist(new JoinWaitlistRequest(
+            testInterviewer.getId(),
+            testSlot.getStartTime(),
+            testSlot.getEndTime(),
+            "Second Waiter", "second@example.com"
+        ));
+
+        interviewSlotService.cancelSlot(testSlot.getId());
+
+        InterviewSlotDto result = interviewSlotService.getSlot(testSlot.getId());
+        assertEquals(InterviewSlot.SlotStatus.BOOKED, result.getStatus());
+        assertEquals("first@example.com", result.getCandidateEmail());
+        assertTrue(waitlistService.getEntriesByEmail("first@example.com").isEmpty());
+        assertEquals(1, waitlistService.getEntriesByEmail("second@example.com").size());
+        assertEquals(1, waitlistService.getEntriesByEmail("late@example.com").size());
+    }
+
+    @Test
+    void testCancelSlotWithoutWaitersFreesSlot() {
+        interviewSlotService.bookSlot(new BookSlotRequest(testSlot.getId(), "Jane Smith", "jane@example.com"));
+
+        // The cancelling candidate is never handed their own slot back
+        waitlistService.joinWaitlist(new JoinWaitlistRequest(
+            testInterviewer.getId(),
+            testSlot.getStartTime(),
+            testSlot.getEndTime(),
+            "Jane Smith", "jane@example.com"
+        ));
+
+        interviewSlotService.cancelSlot(testSlot.getId());
+
+        InterviewSlotDto result = interviewSlotService.getSlot(testSlot.getId());
+        assertEquals(InterviewSlot.SlotStatus.AVAILABLE, result.getStatus());
+        assertEquals(1, waitlistEntryRepository.count());
+    }
+
+    @Test
+    void testExpiredWaitlistEntriesArePurged() {
+        LocalDateTime now = LocalDateTime.now();
+        waitlistEntryRepository.save(new WaitlistEntry(testInterviewer,
+            now.minusDays(2), now.minusDays(1), "Expired Waiter", "expired@example.com"));
+        waitlistService.joinWaitlist(new JoinWaitlistRequest(
+            testInterviewer.getId(), now, now.plusDays(1), "Live Waiter", "live@example.com"));
+
+        assertTrue(waitlistService.purgeExpired() >= 1);
+
+        assertTrue(waitlistService.getEntriesByEmail("expired@example.com").isEmpty());
+        assertEquals(1, waitlistService.getEntriesByEmail("live@example.com").size());
+    }
+
+    @Test
+    void testRescheduleSlot() {
+        InterviewSlot targetSlot = interviewSlotRepository.save(new InterviewSlot(
+            testInterviewer,
+            testSlot.getStartTime().plusHours(3),
+            testSlot.getEndTime().plusHours(3)
+        ));
+        interviewSlotService.bookSlot(new BookSlotRequest(testSlot.getId(), "Jane Smith", "jane@example.com"));
+
+        InterviewSlotDto result = interviewSlotService.rescheduleSlot(testSlot.getId(), targetSlot.getId());
+
+        assertEquals(targetSlot.getId(), result.getId());
+        assertEquals(InterviewSlot.SlotStatus.BOOKED, result.getStatus());
+        assertEquals("jane@example.com", result.getCandidateEmail());
+
+        InterviewSlotDto source = interviewSlotService.getSlot(testSlot.getId());
+        assertEquals(InterviewSlot.SlotStatus.AVAILABLE, source.getStatus());
+        assertNull(source.getCandidateEmail());
+    }
+
+    @Test
+    void testRescheduleToBookedSlotFails() {
+        InterviewSlot targetSlot = interviewSlotRepository.save(new InterviewSlot(
+            testInterviewer,
+            testSlot.getStartTime().plusHours(3),
+            testSlot.getEndTime().plusHours(3)
+        ));
+        interviewSlotService.bookSlot(new BookSlotRequest(testSlot.getId(), "Jane Smith", "jane@example.com"));
+        interviewSlotService.bookSlot(new BookSlotRequest(targetSlot.getId(), "John Roe", "john.roe@example.com"));
+
+        assertThrows(SlotBookingException.class, () -> {
+            interviewSlotService.rescheduleSlot(testSlot.getId(), targetSlot.getId());
+        });
+
+        InterviewSlotDto source = interviewSlotService.getSlot(testSlot.getId());
+        assertEquals("jane@example.com", source.getCandidateEmail());
+    }
+
+    @Test
+    void testReschedulePastBookingFails() {
+        LocalDateTime pastStart = LocalDateTime.now().minusDays(2).withNano(0);
+        InterviewSlot pastSlot = new InterviewSlot(testInterviewer, pastStart, pastStart.plusHours(1));
+        pastSlot.setStatus(InterviewSlot.SlotStatus.BOOKED);
+        pastSlot.setCandidateName("Jane Smith");
+        pastSlot.setCandidateEmail("jane@example.com");
+        InterviewSlot booked = interviewSlotRepository.save(pastSlot);
+
+        assertThrows(SlotBookingException.class, () -> {
+            interviewSlotService.rescheduleSlot(booked.getId(), testSlot.getId());
+        });
+
+        assertEquals(InterviewSlot.SlotStatus.BOOKED, interviewSlotService.getSlot(booked.getId()).getStatus());
+        assertEquals(InterviewSlot.SlotStatus.AVAILABLE, interviewSlotService.getSlot(testSlot.getId()).getStatus());
+    }
+
+    @Test
+    void testBlockInterviewerRangeCancelsAndBlocks() {
+        InterviewSlot otherSlot = interviewSlotRepository.save(new InterviewSlot(
+            testInterviewer,
+            testSlot.getStartTime().plusHours(2),
+            testSlot.getEndTime().plusHours(2)
+        ));
+        interviewSlotService.bookSlot(new BookSlotRequest(testSlot.getId(), "Jane Smith", "jane@example.com"));
+        long outboxBefore = outboxEventRepository.count();
+
+        BulkBlockResult result = interviewSlotService.blockInterviewerRange(
+            testInterviewer.getId(),
+            testSlot.getStartTime().withHour(0),
+            testSlot.getStartTime().withHour(0).plusDays(1)
+        );
+
+        assertEquals(1, result.getCancelledBookings());
+        assertEquals(1, result.getBlockedSlots());
+        assertEquals(outboxBefore + 1, outboxEventRepository.count());
+
+        // Bulk statements bypass the persistence context
+        entityManager.flush();
+        entityManager.clear();
+
+        InterviewSlotDto blockedBooking = interviewSlotService.getSlot(testSlot.getId());
+        assertEquals(InterviewSlot.SlotStatus.BLOCKED, blockedBooking.getStatus());
+        assertNull(blockedBooking.getCandidateEmail());
+        assertEquals(InterviewSlot.SlotStatus.BLOCKED, interviewSlotService.getSlot(otherSlot.getId()).getStatus());
+    }
+
     @Test
     void testGetSlotsByInterviewer() {
         var slots = interviewSlotService.getSlotsByInterviewer(testInterviewer.getId());
@@ -0,0 +1,89 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.InterviewerImportResult;
+import com.vasitum.scheduler.dto.InterviewerImportResult.RowError;
+import com.vasitum.scheduler.entity.AvailabilitySlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.service.InterviewerImportService.Format;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.import.chunk-size=2")
+@ActiveProfiles("test")
+@Transactional
+class InterviewerImportServiceTest {
+
+    @Autowired
+    private InterviewerImportService interviewerImportService;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Test
+    void testCsvImportSkipsBadRowsAndImportsTheRest() throws Exception {
+        String csv = String.join("\n",
+            "name,email,maxInterviewsPerWeek,availability",
+            "Ana Lima,ana@example.com,4,MONDAY 09:00-12:00;FRIDAY 13:00-17:00",
+            "\"Ng, Tom\",tom@example.com,3,",
+            "Existing,john.smith@company.com,2,MONDAY 09:00-10:00",
+            "No Email,,3,",
+            "Ana Again,ana@example.com,4,",
+            "Bad Range,bad@example.com,4,MONDAY 12:00-09:00",
+            "Bad Max,max@example.com,lots,",
+            "Zoe Park,zoe@example.com,5,TUESDAY 10:00-11:00");
+
+        InterviewerImportResult result = interviewerImportService.importInterviewers(
+            new BufferedReader(new StringReader(csv)), Format.CSV);
+
+        assertEquals(3, result.getImported());
+        assertEquals(5, result.getFailed());
+        assertNotNull(result.getJobId());
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L), result.getErrors().stream().map(RowError::getLine).sorted().toList());
+        RowError duplicate = result.getErrors().stream().filter(e -> e.getLine() == 6).findFirst().orElseThrow();
+        assertEquals("Duplicate email in import", duplicate.getMessage());
+
+        assertEquals("Ng, Tom", interviewerRepository.findByEmail("tom@example.com").orElseThrow().getName());
+        Interviewer ana = interviewerRepository.findByEmail("ana@example.com").orElseThrow();
+        List<AvailabilitySlot> rules = availabilitySlotRepository.findByInterviewerIdAndIsActiveTrue(ana.getId());
+        assertEquals(2, rules.size());
+        assertTrue(rules.stream().anyMatch(rule -> rule.getDayOfWeek() == DayOfWeek.FRIDAY
+            && rule.getStartTime().equals(LocalTime.of(13, 0)) && rule.getEndTime().equals(LocalTime.of(17, 0))));
+        assertTrue(interviewerRepository.findByEmail("bad@example.com").isEmpty());
+    }
+
+    @Test
+    void testNdjsonImportReportsMalformedLines() throws Exception {
+        String ndjson = String.join("\n",
+            "{\"name\":\"Lee\",\"email\":\"lee@example.com\",\"maxInterviewsPerWeek\":2," +
+                "\"availabilitySlots\":[{\"dayOfWeek\":\"WEDNESDAY\",\"startTime\":\"09:00\",\"endTime\":\"11:00\"}]}",
+            "{not json",
+            "",
+            "{\"name\":\"Kim\",\"email\":\"kim@example.com\"}");
+
+        InterviewerImportResult result = interviewerImportService.importInterviewers(
+            new BufferedReader(new StringReader(ndjson)), Format.NDJSON);
+
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertEquals("Max interviews per week is required", result.getErrors().get(1).getMessage());
+        assertEquals(1, availabilitySlotRepository.findByInterviewerIdAndIsActiveTrue(
+            interviewerRepository.findByEmail("lee@example.com").orElseThrow().getId()).size());
+    }
+}
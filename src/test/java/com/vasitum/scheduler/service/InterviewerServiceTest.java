@@ -2,16 +2,26 @@ package com.vasitum.scheduler.service;
 
 import com.vasitum.scheduler.dto.AvailabilitySlotDto;
 import com.vasitum.scheduler.dto.CreateInterviewerRequest;
+import com.vasitum.scheduler.entity.AvailabilitySlot;
+import com.vasitum.scheduler.entity.InterviewSlot;
 import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.OutboxEvent;
 import com.vasitum.scheduler.exception.ResourceNotFoundException;
+import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
 import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.OutboxEventRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +39,21 @@ class InterviewerServiceTest {
     @Autowired
     private InterviewerRepository interviewerRepository;
 
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InterviewerPurgeService interviewerPurgeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void testCreateInterviewer() {
         List<AvailabilitySlotDto> slots = Arrays.asList(
@@ -115,4 +140,122 @@ class InterviewerServiceTest {
         assertEquals("Updated Name", result.getName());
         assertEquals(7, result.getMaxInterviewsPerWeek());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGenerateInterviewSlotsSkipsTakenHoursAndIsIdempotent() {
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Gen", "gen@example.com", 5));
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        availabilitySlotRepository.save(new AvailabilitySlot(
+            interviewer, tomorrow.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(12, 0)));
+
+        // An off-grid slot at 10:30-11:30 overlaps both the 10:00 and the 11:00 hour
+        LocalDateTime existingStart = tomorrow.atTime(10, 30);
+        interviewSlotRepository.save(new InterviewSlot(interviewer, existingStart, existingStart.plusHours(1)));
+
+        // Two matching days in the two-week horizon, three hours each, minus the overlapped hours
+        assertEquals(4, interviewerService.generateInterviewSlots(interviewer.getId()));
+        assertEquals(0, interviewerService.generateInterviewSlots(interviewer.getId()));
+
+        List<InterviewSlot> slots = interviewSlotRepository.findByInterviewerIdAndStartTimeBetween(
+            interviewer.getId(), tomorrow.atStartOfDay(), tomorrow.plusWeeks(1).atTime(23, 0));
+        assertEquals(5, slots.size());
+        assertTrue(slots.stream().noneMatch(slot -> slot.getStartTime().equals(tomorrow.atTime(10, 0))
+            || slot.getStartTime().equals(tomorrow.atTime(11, 0))));
+    }
+
+    @Test
+    void testUpdateAvailabilityAppliesOnlyTheDiff() {
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Diff", "diff@example.com", 5));
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        LocalDate dayAfter = tomorrow.plusDays(1);
+        availabilitySlotRepository.save(new AvailabilitySlot(
+            interviewer, tomorrow.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(12, 0)));
+        AvailabilitySlot unchanged = availabilitySlotRepository.save(new AvailabilitySlot(
+            interviewer, dayAfter.getDayOfWeek(), LocalTime.of(14, 0), LocalTime.of(16, 0)));
+        interviewerService.generateInterviewSlots(interviewer.getId());
+
+        InterviewSlot booked = interviewSlotRepository.findByInterviewerIdAndStartTimeBetween(
+            interviewer.getId(), tomorrow.atTime(10, 0), tomorrow.atTime(10, 0)).get(0);
+        booked.setStatus(InterviewSlot.SlotStatus.BOOKED);
+        interviewSlotRepository.saveAndFlush(booked);
+
+        interviewerService.updateInterviewer(interviewer.getId(), new CreateInterviewerRequest(
+            "Diff", "diff@example.com", 5, Arrays.asList(
+                new AvailabilitySlotDto(tomorrow.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                new AvailabilitySlotDto(dayAfter.getDayOfWeek(), LocalTime.of(14, 0), LocalTime.of(16, 0)))));
+
+        List<AvailabilitySlot> rules = availabilitySlotRepository.findByInterviewerIdAndIsActiveTrue(interviewer.getId());
+        assertEquals(2, rules.size());
+        assertTrue(rules.stream().anyMatch(rule -> rule.getId().equals(unchanged.getId())));
+
+        // The 11:00 slot is outside every rule now; the booked 10:00 slot is kept
+        List<InterviewSlot> slots = interviewSlotRepository.findByInterviewerIdAndStartTimeBetween(
+            interviewer.getId(), tomorrow.atStartOfDay(), tomorrow.atTime(23, 0));
+        assertEquals(List.of(tomorrow.atTime(9, 0), tomorrow.atTime(10, 0)),
+            slots.stream().map(InterviewSlot::getStartTime).sorted().toList());
+        assertEquals(2, interviewSlotRepository.findByInterviewerIdAndStartTimeBetween(
+            interviewer.getId(), dayAfter.atStartOfDay(), dayAfter.atTime(23, 0)).size());
+    }
+
+    @Test
+    void testDeletedInterviewerEmailCanBeReused() {
+        Interviewer deleted = interviewerService.createInterviewer(
+            new CreateInterviewerRequest("John Doe", "john@example.com", 5, null));
+        interviewerService.deleteInterviewer(deleted.getId());
+        entityManager.flush();
+
+        Interviewer recreated = interviewerService.createInterviewer(
+            new CreateInterviewerRequest("John Doe", "john@example.com", 3, null));
+        entityManager.flush();
+
+        assertNotEquals(deleted.getId(), recreated.getId());
+        assertEquals("john@example.com", interviewerService.getInterviewer(recreated.getId()).getEmail());
+    }
+
+    @Test
+    void testDeleteInterviewerCancelsFutureBookingsAndPurgesLater() {
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Leaving", "leaving@example.com", 5));
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        availabilitySlotRepository.save(new AvailabilitySlot(
+            interviewer, tomorrow.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(12, 0)));
+        interviewerService.generateInterviewSlots(interviewer.getId());
+
+        InterviewSlot booked = interviewSlotRepository.findByInterviewerIdAndStartTimeBetween(
+            interviewer.getId(), tomorrow.atTime(10, 0), tomorrow.atTime(10, 0)).get(0);
+        booked.setStatus(InterviewSlot.SlotStatus.BOOKED);
+        booked.setCandidateName("Cand");
+        booked.setCandidateEmail("cand@example.com");
+        interviewSlotRepository.saveAndFlush(booked);
+
+        Long id = interviewer.getId();
+        interviewerService.deleteInterviewer(id);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThrows(ResourceNotFoundException.class, () -> interviewerService.getInterviewer(id));
+        assertTrue(interviewerService.getAllInterviewers().stream().noneMatch(i -> i.getId().equals(id)));
+        assertTrue(availabilitySlotRepository.findByInterviewerIdAndIsActiveTrue(id).isEmpty());
+        List<InterviewSlot> slots = interviewSlotRepository.findByInterviewerIdAndStartTimeBetween(
+            id, tomorrow.atStartOfDay(), tomorrow.atTime(23, 0));
+        assertEquals(3, slots.size());
+        assertTrue(slots.stream().allMatch(slot -> slot.getStatus() == InterviewSlot.SlotStatus.BLOCKED));
+        assertTrue(outboxEventRepository.findAll().stream().anyMatch(event ->
+            event.getEventType() == OutboxEvent.EventType.SLOT_CANCELLED
+                && booked.getId().equals(event.getInterviewSlotId())));
+
+        int slotCount = interviewSlotRepository.findIdsByInterviewerId(id, PageRequest.of(0, 100)).size();
+        int purged = interviewerPurgeService.purge(id, new JobService.Progress() {
+            @Override
+            public void setTotal(long total) {}
+
+            @Override
+            public void advance(long done) {}
+        });
+        entityManager.clear();
+
+        assertEquals(slotCount, purged);
+        assertTrue(interviewerRepository.findById(id).isEmpty());
+        assertTrue(availabilitySlotRepository.findAll().stream()
+            .noneMatch(rule -> rule.getInterviewer().getId().equals(id)));
+    }
+}
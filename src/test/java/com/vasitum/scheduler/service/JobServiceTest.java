@@ -0,0 +1,69 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.JobDto;
+import com.vasitum.scheduler.dto.JobDto.JobStatus;
+import com.vasitum.scheduler.dto.JobDto.JobType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JobServiceTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Test
+    void testConcurrentJobsForSameTargetAreDeduplicated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        JobDto first = jobService.submit(JobType.GENERATE_SLOTS, "interviewer:dedup", progress -> {
+            progress.setTotal(2);
+            progress.advance(1);
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            progress.advance(1);
+            return "done";
+        });
+        JobDto second = jobService.submit(JobType.GENERATE_SLOTS, "interviewer:dedup", progress -> "duplicate");
+        assertEquals(first.getJobId(), second.getJobId());
+
+        release.countDown();
+        JobDto finished = awaitFinished(first.getJobId());
+        assertEquals(JobStatus.SUCCEEDED, finished.getStatus());
+        assertEquals("done", finished.getResult());
+        assertEquals(2, finished.getProcessed());
+        assertEquals(2L, finished.getTotal());
+
+        // Once finished, the same target can be submitted again
+        JobDto next = jobService.submit(JobType.GENERATE_SLOTS, "interviewer:dedup", progress -> "again");
+        assertNotEquals(first.getJobId(), next.getJobId());
+        assertEquals("again", awaitFinished(next.getJobId()).getResult());
+    }
+
+    @Test
+    void testFailedJobReportsError() throws Exception {
+        JobDto job = jobService.submit(JobType.GENERATE_SLOTS, "interviewer:failing", progress -> {
+            throw new IllegalStateException("boom");
+        });
+
+        JobDto finished = awaitFinished(job.getJobId());
+        assertEquals(JobStatus.FAILED, finished.getStatus());
+        assertEquals("boom", finished.getError());
+    }
+
+    private JobDto awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        JobDto job = jobService.getJob(jobId);
+        while (job.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            job = jobService.getJob(jobId);
+        }
+        return job;
+    }
+}
@@ -0,0 +1,97 @@
+package com.vasitum.scheduler.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "app.mail.enabled=true",
+    "app.mail.dispatch.workers=4",
+    "app.mail.dispatch.batch-size=50",
+    "app.mail.dispatch.timeout-ms=500"
+})
+@ActiveProfiles("test")
+class MailDispatcherTest {
+
+    private static final FakeSmtpServer SMTP = startServer();
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+
+    @DynamicPropertySource
+    static void mailProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", SMTP::getPort);
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        SMTP.close();
+    }
+
+    @Test
+    void testReminderBurstIsSentOverPooledConnections() {
+        // 4 batches of 50, but never more connections than workers
+        assertBurstReusesConnections("pooled.test", 200);
+    }
+
+    // Opt-in: mvn test -Dtest=MailDispatcherTest -Dbenchmark=true
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void testLargeReminderBurstIsSentOverPooledConnections() {
+        assertBurstReusesConnections("burst.test", 10000);
+    }
+
+    @Test
+    void testTimedOutMessageFailsAlone() {
+        SMTP.stallOn("slow@stall.test", 2000);
+        List<MailDispatcher.OutgoingMail> mails = List.of(
+            new MailDispatcher.OutgoingMail("first@stall.test", "Subject", "Body"),
+            new MailDispatcher.OutgoingMail("slow@stall.test", "Subject", "Body"),
+            new MailDispatcher.OutgoingMail("last@stall.test", "Subject", "Body"));
+
+        boolean[] sent = mailDispatcher.sendAll(mails);
+
+        assertTrue(sent[0]);
+        assertFalse(sent[1]);
+        // The stalled connection is dropped and the rest of the batch goes out on a new one
+        assertTrue(sent[2]);
+        assertTrue(SMTP.getRecipients().contains("last@stall.test"));
+    }
+
+    private void assertBurstReusesConnections(String domain, int size) {
+        List<MailDispatcher.OutgoingMail> burst = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            burst.add(new MailDispatcher.OutgoingMail("candidate" + i + "@" + domain, "Interview Reminder", "See you tomorrow"));
+        }
+        int connectionsBefore = SMTP.getConnectionCount();
+
+        boolean[] sent = mailDispatcher.sendAll(burst);
+
+        for (boolean accepted : sent) {
+            assertTrue(accepted);
+        }
+        assertEquals(size, SMTP.getRecipients().stream().filter(to -> to.endsWith("@" + domain)).count());
+        assertTrue(SMTP.getConnectionCount() - connectionsBefore <= 4);
+    }
+
+    private static FakeSmtpServer startServer() {
+        try {
+            return new FakeSmtpServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.NotificationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// max-attempts above the old limit of three, so rows that had used up their attempts
+// before backoff was stored would look retryable
+@SpringBootTest(properties = {
+    "app.notifications.retry.max-attempts=5",
+    "app.notifications.retry.base-delay-seconds=60",
+    "app.notifications.retry.max-delay-seconds=3600",
+    "app.notifications.retry.backfill-max-age-hours=24"
+})
+@ActiveProfiles("test")
+@Transactional
+class NotificationBackfillTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testLegacyFailedRowsUnderTheOldLimitGetAJitteredRetry() {
+        Long legacy = legacyFailure("legacy@example.com", 1, null);
+        Long secondTry = legacyFailure("second-try@example.com", 2, null);
+
+        LocalDateTime before = LocalDateTime.now();
+        notificationService.backfillLegacyRetries();
+        LocalDateTime after = LocalDateTime.now();
+
+        // First retry delay is the base, jittered over its upper half; the second doubles it
+        assertDueBetween(reload(legacy), before.plusSeconds(30), after.plusSeconds(60));
+        assertDueBetween(reload(secondTry), before.plusSeconds(60), after.plusSeconds(120));
+    }
+
+    @Test
+    void testLegacyRowsThatUsedUpTheOldLimitAreNotRevived() {
+        Long third = legacyFailure("third@example.com", 3, null);
+        Long fourth = legacyFailure("fourth@example.com", 4, null);
+
+        notificationService.backfillLegacyRetries();
+
+        assertNull(reload(third).getNextAttemptAt());
+        assertNull(reload(fourth).getNextAttemptAt());
+    }
+
+    @Test
+    void testLegacyRowsForPastInterviewsOrStaleAreSkipped() {
+        Interviewer interviewer = interviewerRepository.save(
+            new Interviewer("Backfill Interviewer", "backfill-interviewer@example.com", 5));
+        LocalDateTime start = LocalDateTime.now().withSecond(0).withNano(0);
+        InterviewSlot past = interviewSlotRepository.save(
+            new InterviewSlot(interviewer, start.minusHours(2), start.minusHours(1)));
+        InterviewSlot upcoming = interviewSlotRepository.save(
+            new InterviewSlot(interviewer, start.plusDays(1), start.plusDays(1).plusHours(1)));
+
+        Long pastInterview = legacyFailure("past@example.com", 1, past.getId());
+        Long upcomingInterview = legacyFailure("upcoming@example.com", 1, upcoming.getId());
+        Long stale = legacyFailure("stale@example.com", 1, null);
+        jdbcTemplate.update("UPDATE notifications SET created_at = ? WHERE id = ?",
+            Timestamp.valueOf(LocalDateTime.now().minusDays(3)), stale);
+
+        notificationService.backfillLegacyRetries();
+
+        assertNull(reload(pastInterview).getNextAttemptAt());
+        assertNotNull(reload(upcomingInterview).getNextAttemptAt());
+        assertNull(reload(stale).getNextAttemptAt());
+    }
+
+    private Long legacyFailure(String email, int retryCount, Long slotId) {
+        Notification notification = new Notification(email, "Subject", "Body",
+            Notification.NotificationType.BOOKING_CONFIRMATION);
+        notification.setStatus(Notification.NotificationStatus.FAILED);
+        notification.setRetryCount(retryCount);
+        notification.setInterviewSlotId(slotId);
+        Long id = notificationRepository.save(notification).getId();
+        entityManager.flush();
+        return id;
+    }
+
+    private Notification reload(Long id) {
+        entityManager.clear();
+        return notificationRepository.findById(id).orElseThrow();
+    }
+
+    private void assertDueBetween(Notification notification, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime due = notification.getNextAttemptAt();
+        assertNotNull(due);
+        assertFalse(due.isBefore(from), due + " before " + from);
+        assertFalse(due.isAfter(to), due + " after " + to);
+    }
+}
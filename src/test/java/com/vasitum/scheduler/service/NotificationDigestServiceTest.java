@@ -0,0 +1,142 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.entity.OutboxEvent;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.NotificationRepository;
+import com.vasitum.scheduler.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the alerts are written by the flush timer. The relay only runs when
+// a test calls it.
+@SpringBootTest(properties = {
+    "app.notifications.outbox.relay-interval-ms=3600000",
+    "app.notifications.digest.window-ms=1000",
+    "app.notifications.digest.max-recipients=2",
+    "app.notifications.digest.flush-interval-ms=100"
+})
+@ActiveProfiles("test")
+class NotificationDigestServiceTest {
+
+    @Autowired
+    private NotificationDigestService notificationDigestService;
+
+    @Autowired
+    private NotificationRelayService notificationRelayService;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private final List<Interviewer> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        for (Interviewer interviewer : created) {
+            notificationRepository.deleteAll(alerts(interviewer));
+        }
+        interviewerRepository.deleteAll(created);
+    }
+
+    @Test
+    void testGenerationRunsForOneRecipientBecomeOneAlert() throws InterruptedException {
+        Interviewer interviewer = interviewer("digest-a@example.com");
+        List<Long> eventIds = new ArrayList<>();
+        for (int slots : new int[]{5, 7, 3}) {
+            eventIds.add(outboxEventRepository.save(OutboxEvent.forGeneration(interviewer, slots)).getId());
+        }
+
+        notificationRelayService.relayOutbox();
+        // Held for the window rather than written straight away, with the events kept
+        assertTrue(alerts(interviewer).isEmpty());
+        List<OutboxEvent> held = outboxEventRepository.findAllById(eventIds);
+        assertEquals(3, held.size());
+        assertTrue(held.stream().allMatch(event -> event.getHeldAt() != null));
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (alerts(interviewer).stream().noneMatch(n -> n.getStatus() == Notification.NotificationStatus.SENT)
+               && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        List<Notification> alerts = alerts(interviewer);
+        assertEquals(1, alerts.size());
+        assertEquals(Notification.NotificationStatus.SENT, alerts.get(0).getStatus());
+        assertTrue(alerts.get(0).getContent().contains("Number of new slots: 15"));
+        assertTrue(outboxEventRepository.findAllById(eventIds).isEmpty());
+    }
+
+    @Test
+    void testHeldEventsSurviveLosingTheBuffer() {
+        notificationDigestService.flushAll();
+        Interviewer interviewer = interviewer("digest-e@example.com");
+        outboxEventRepository.save(OutboxEvent.forGeneration(interviewer, 4));
+        outboxEventRepository.save(OutboxEvent.forGeneration(interviewer, 6));
+        notificationRelayService.relayOutbox();
+
+        notificationDigestService.discard();
+        notificationDigestService.rebuild();
+        notificationDigestService.flushAll();
+
+        List<Notification> alerts = alerts(interviewer);
+        assertEquals(1, alerts.size());
+        assertTrue(alerts.get(0).getContent().contains("Number of new slots: 10"));
+
+        // Sent once: a second rebuild finds nothing left to hold
+        notificationDigestService.rebuild();
+        notificationDigestService.flushAll();
+        assertEquals(1, alerts(interviewer).size());
+    }
+
+    @Test
+    void testFullBufferSendsOldestRecipientEarly() {
+        notificationDigestService.flushAll();
+        Interviewer first = interviewer("digest-b@example.com");
+        Interviewer second = interviewer("digest-c@example.com");
+        Interviewer third = interviewer("digest-d@example.com");
+
+        outboxEventRepository.saveAll(List.of(
+            OutboxEvent.forGeneration(first, 4),
+            OutboxEvent.forGeneration(second, 4),
+            OutboxEvent.forGeneration(first, 2),
+            OutboxEvent.forGeneration(third, 4)));
+        notificationRelayService.relayOutbox();
+
+        assertEquals(2, notificationDigestService.size());
+        List<Notification> alerts = alerts(first);
+        assertEquals(1, alerts.size());
+        assertTrue(alerts.get(0).getContent().contains("Number of new slots: 6"));
+        assertTrue(alerts(second).isEmpty());
+        assertTrue(alerts(third).isEmpty());
+
+        notificationDigestService.flushAll();
+        assertEquals(1, alerts(second).size());
+        assertEquals(1, alerts(third).size());
+    }
+
+    private Interviewer interviewer(String email) {
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Digest", email, 5));
+        created.add(interviewer);
+        return interviewer;
+    }
+
+    private List<Notification> alerts(Interviewer interviewer) {
+        return notificationRepository.findByRecipientEmailOrderByCreatedAtDesc(interviewer.getEmail()).stream()
+            .filter(notification -> notification.getType() == Notification.NotificationType.SLOT_GENERATION_ALERT)
+            .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the claim has to be visible to a second sender
+@SpringBootTest(properties = {
+    "app.mail.enabled=true",
+    "app.mail.dispatch.timeout-ms=5000",
+    "app.notifications.dispatch.lease-seconds=1"
+})
+@ActiveProfiles("test")
+class NotificationLeaseTest {
+
+    private static final FakeSmtpServer SMTP = startServer();
+
+    private static final JobService.Progress NO_PROGRESS = new JobService.Progress() {
+        @Override
+        public void setTotal(long total) {
+        }
+
+        @Override
+        public void advance(long done) {
+        }
+    };
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @DynamicPropertySource
+    static void mailProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", SMTP::getPort);
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        SMTP.close();
+    }
+
+    @Test
+    void testLeaseOutlivesSlowSend() throws Exception {
+        SMTP.stallOn("slow@lease.test", 2500);
+        Notification notification = new Notification("slow@lease.test", "Subject", "Body",
+            Notification.NotificationType.BOOKING_CONFIRMATION);
+        notification.setScheduledFor(LocalDateTime.now().minusMinutes(1));
+        Long id = notificationRepository.save(notification).getId();
+        try {
+            CompletableFuture<Void> first = CompletableFuture.runAsync(
+                () -> notificationService.processPendingNotifications(NO_PROGRESS));
+
+            // Well past the one second lease, with the send still stalled
+            Thread.sleep(1800);
+            Notification inFlight = notificationRepository.findById(id).orElseThrow();
+            assertNotNull(inFlight.getClaimedBy());
+            assertTrue(inFlight.getLeaseUntil().isAfter(LocalDateTime.now()));
+            notificationService.processPendingNotifications(NO_PROGRESS);
+
+            first.get();
+            assertEquals(Notification.NotificationStatus.SENT,
+                notificationRepository.findById(id).orElseThrow().getStatus());
+            assertEquals(1, SMTP.getRecipients().stream().filter("slow@lease.test"::equals).count());
+        } finally {
+            notificationRepository.deleteById(id);
+        }
+    }
+
+    private static FakeSmtpServer startServer() {
+        try {
+            return new FakeSmtpServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
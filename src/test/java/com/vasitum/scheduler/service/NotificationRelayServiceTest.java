@@ -0,0 +1,147 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.BookSlotRequest;
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.NotificationRepository;
+import com.vasitum.scheduler.repository.OutboxEventRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NotificationRelayServiceTest {
+
+    @Autowired
+    private NotificationRelayService notificationRelayService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private InterviewSlotService interviewSlotService;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private InterviewSlot testSlot;
+
+    @BeforeEach
+    void setUp() {
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("John Doe", "john@example.com", 5));
+
+        LocalDateTime start = LocalDateTime.now().plusDays(3).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        testSlot = interviewSlotRepository.save(new InterviewSlot(interviewer, start, start.plusHours(1)));
+    }
+
+    @Test
+    void testBookingIsRelayedIntoNotifications() {
+        interviewSlotService.bookSlot(new BookSlotRequest(testSlot.getId(), "Jane Smith", "jane@example.com"));
+
+        // Nothing is created until the relay runs
+        assertTrue(notificationRepository.findByInterviewSlotId(testSlot.getId()).isEmpty());
+
+        relayAll();
+
+        List<Notification> notifications = notificationRepository.findByInterviewSlotId(testSlot.getId());
+        assertEquals(2, notifications.size());
+
+        Notification confirmation = findByType(notifications, Notification.NotificationType.BOOKING_CONFIRMATION);
+        assertEquals("jane@example.com", confirmation.getRecipientEmail());
+        assertEquals(Notification.NotificationStatus.SENT, confirmation.getStatus());
+
+        Notification reminder = findByType(notifications, Notification.NotificationType.INTERVIEW_REMINDER);
+        assertEquals(Notification.NotificationStatus.PENDING, reminder.getStatus());
+        assertEquals(testSlot.getStartTime().minusHours(24), reminder.getScheduledFor());
+    }
+
+    @Test
+    void testCancellationCancelsPendingReminder() {
+        interviewSlotService.bookSlot(new BookSlotRequest(testSlot.getId(), "Jane Smith", "jane@example.com"));
+        relayAll();
+
+        interviewSlotService.cancelSlot(testSlot.getId());
+        relayAll();
+
+        List<Notification> notifications = notificationRepository.findByInterviewSlotId(testSlot.getId());
+        Notification notice = findByType(notifications, Notification.NotificationType.CANCELLATION_NOTICE);
+        assertEquals("jane@example.com", notice.getRecipientEmail());
+        assertTrue(notice.getContent().contains("Jane Smith"));
+
+        Notification reminder = findByType(notifications, Notification.NotificationType.INTERVIEW_REMINDER);
+        assertEquals(Notification.NotificationStatus.CANCELLED, reminder.getStatus());
+    }
+
+    @Test
+    void testRescheduleMovesReminderAndSendsSingleUpdate() {
+        InterviewSlot targetSlot = interviewSlotRepository.save(new InterviewSlot(
+            testSlot.getInterviewer(),
+            testSlot.getStartTime().plusDays(1),
+            testSlot.getEndTime().plusDays(1)
+        ));
+        interviewSlotService.bookSlot(new BookSlotRequest(testSlot.getId(), "Jane Smith", "jane@example.com"));
+        relayAll();
+
+        interviewSlotService.rescheduleSlot(testSlot.getId(), targetSlot.getId());
+        relayAll();
+
+        List<Notification> oldSlotNotifications = notificationRepository.findByInterviewSlotId(testSlot.getId());
+        assertEquals(Notification.NotificationStatus.CANCELLED,
+            findByType(oldSlotNotifications, Notification.NotificationType.INTERVIEW_REMINDER).getStatus());
+        assertTrue(oldSlotNotifications.stream()
+            .noneMatch(n -> n.getType() == Notification.NotificationType.CANCELLATION_NOTICE));
+
+        List<Notification> newSlotNotifications = notificationRepository.findByInterviewSlotId(targetSlot.getId());
+        assertEquals(2, newSlotNotifications.size());
+        findByType(newSlotNotifications, Notification.NotificationType.BOOKING_UPDATE);
+        Notification reminder = findByType(newSlotNotifications, Notification.NotificationType.INTERVIEW_REMINDER);
+        assertEquals(targetSlot.getStartTime().minusHours(24), reminder.getScheduledFor());
+    }
+
+    private void relayAll() {
+        NotificationRelayService.RelayedBatch batch;
+        do {
+            batch = notificationRelayService.relayBatch();
+            notificationService.dispatch(batch.getDueNotificationIds());
+        } while (batch.getEventCount() > 0);
+        // Held generation events wait for their digest; everything else is relayed
+        assertEquals(0, outboxEventRepository.countByHeldAtIsNull());
+
+        // Reminder cancellation is a bulk update, so re-read from the database
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Notification findByType(List<Notification> notifications, Notification.NotificationType type) {
+        return notifications.stream()
+            .filter(notification -> notification.getType() == type)
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No " + type + " notification"));
+    }
+}
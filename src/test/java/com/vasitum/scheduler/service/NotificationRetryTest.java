@@ -0,0 +1,105 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.repository.NotificationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mail goes to a closed port, so every send fails
+@SpringBootTest(properties = {
+    "app.mail.enabled=true",
+    "spring.mail.host=localhost",
+    "spring.mail.port=1",
+    "app.mail.dispatch.timeout-ms=500",
+    "app.notifications.retry.max-attempts=3",
+    "app.notifications.retry.base-delay-seconds=60",
+    "app.notifications.retry.max-delay-seconds=100"
+})
+@ActiveProfiles("test")
+@Transactional
+class NotificationRetryTest {
+
+    private static final JobService.Progress NO_PROGRESS = new JobService.Progress() {
+        @Override
+        public void setTotal(long total) {
+        }
+
+        @Override
+        public void advance(long done) {
+        }
+    };
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testFailedSendIsRetriedWithBackoffUntilAttemptsRunOut() {
+        Notification notification = new Notification("retry@example.com", "Subject", "Body",
+            Notification.NotificationType.BOOKING_CONFIRMATION);
+        notification.setScheduledFor(LocalDateTime.now().minusMinutes(1));
+        Long id = notificationRepository.save(notification).getId();
+        entityManager.flush();
+
+        LocalDateTime before = LocalDateTime.now();
+        notificationService.processPendingNotifications(NO_PROGRESS);
+        Notification failed = reload(id);
+        assertEquals(Notification.NotificationStatus.FAILED, failed.getStatus());
+        assertEquals(1, failed.getRetryCount());
+        // First delay is the base, jittered over its upper half
+        assertDueBetween(failed, before.plusSeconds(30), LocalDateTime.now().plusSeconds(60));
+
+        // Not due yet: the retry sweep leaves it alone
+        notificationService.retryFailedNotifications(NO_PROGRESS);
+        assertEquals(1, reload(id).getRetryCount());
+
+        makeDue(id);
+        before = LocalDateTime.now();
+        notificationService.retryFailedNotifications(NO_PROGRESS);
+        failed = reload(id);
+        assertEquals(2, failed.getRetryCount());
+        // Doubled to 120s, capped at 100s
+        assertDueBetween(failed, before.plusSeconds(50), LocalDateTime.now().plusSeconds(100));
+
+        makeDue(id);
+        notificationService.retryFailedNotifications(NO_PROGRESS);
+        failed = reload(id);
+        assertEquals(3, failed.getRetryCount());
+        assertNull(failed.getNextAttemptAt());
+        assertTrue(failed.getErrorMessage().contains("gave up after 3 attempts"));
+
+        notificationService.retryFailedNotifications(NO_PROGRESS);
+        assertEquals(3, reload(id).getRetryCount());
+    }
+
+    private Notification reload(Long id) {
+        entityManager.clear();
+        return notificationRepository.findById(id).orElseThrow();
+    }
+
+    private void makeDue(Long id) {
+        Notification notification = reload(id);
+        notification.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        entityManager.flush();
+    }
+
+    private void assertDueBetween(Notification notification, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime due = notification.getNextAttemptAt();
+        assertNotNull(due);
+        assertFalse(due.isBefore(from), due + " before " + from);
+        assertFalse(due.isAfter(to), due + " after " + to);
+    }
+}
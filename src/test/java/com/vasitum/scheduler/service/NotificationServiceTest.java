@@ -0,0 +1,88 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.repository.NotificationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.notifications.dispatch.chunk-size=2")
+@ActiveProfiles("test")
+@Transactional
+class NotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testSweepSendsInChunksAndSkipsRowsLeasedByAnotherSender() {
+        List<Notification> due = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            due.add(pending("due" + i + "@example.com", LocalDateTime.now().minusMinutes(1)));
+        }
+        Notification leased = pending("leased@example.com", LocalDateTime.now().minusMinutes(1));
+        leased.setClaimedBy("other-node");
+        leased.setLeaseUntil(LocalDateTime.now().plusMinutes(5));
+        Notification expired = pending("expired@example.com", LocalDateTime.now().minusMinutes(1));
+        expired.setClaimedBy("crashed-node");
+        expired.setLeaseUntil(LocalDateTime.now().minusMinutes(1));
+        Notification future = pending("future@example.com", LocalDateTime.now().plusHours(1));
+        notificationRepository.saveAll(List.of(leased, expired, future));
+        entityManager.flush();
+
+        List<Long> advances = new ArrayList<>();
+        int processed = notificationService.processPendingNotifications(new JobService.Progress() {
+            @Override
+            public void setTotal(long total) {
+            }
+
+            @Override
+            public void advance(long done) {
+                advances.add(done);
+            }
+        });
+
+        // Outcomes are bulk updates, so re-read from the database
+        entityManager.clear();
+        assertTrue(processed >= 6);
+        assertTrue(advances.stream().allMatch(done -> done <= 2));
+        for (Notification notification : due) {
+            assertSent(notification.getId());
+        }
+        assertSent(expired.getId());
+        assertEquals(Notification.NotificationStatus.PENDING,
+            notificationRepository.findById(leased.getId()).orElseThrow().getStatus());
+        assertEquals(Notification.NotificationStatus.PENDING,
+            notificationRepository.findById(future.getId()).orElseThrow().getStatus());
+    }
+
+    private Notification pending(String email, LocalDateTime scheduledFor) {
+        Notification notification = new Notification(email, "Subject", "Body",
+            Notification.NotificationType.INTERVIEW_REMINDER);
+        notification.setScheduledFor(scheduledFor);
+        return notificationRepository.save(notification);
+    }
+
+    private void assertSent(Long id) {
+        Notification notification = notificationRepository.findById(id).orElseThrow();
+        assertEquals(Notification.NotificationStatus.SENT, notification.getStatus());
+        assertNotNull(notification.getSentAt());
+        assertNull(notification.getClaimedBy());
+        assertNull(notification.getLeaseUntil());
+    }
+}
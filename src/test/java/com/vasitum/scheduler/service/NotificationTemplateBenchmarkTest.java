@@ -0,0 +1,96 @@
+package com.vasitum.scheduler.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Opt-in: mvn test -Dtest=NotificationTemplateBenchmarkTest -Dbenchmark=true
+// Renders 1000 interview reminders, comparing the previous String.format text block with
+// the compiled template appending into one reused builder. Run with -prof gc via the JMH
+// runner to see the allocation difference.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class NotificationTemplateBenchmarkTest {
+
+    private static final int REMINDERS = 1000;
+
+    private String[] names;
+    private MailTemplate template;
+    private StringBuilder builder;
+
+    @Setup
+    public void setUp() throws Exception {
+        names = new String[REMINDERS];
+        for (int i = 0; i < REMINDERS; i++) {
+            names[i] = "Candidate " + i;
+        }
+        String source = new String(new ClassPathResource("mail/interview-reminder.txt").getInputStream()
+            .readAllBytes(), StandardCharsets.UTF_8);
+        template = MailTemplate.compile(source, false);
+        builder = new StringBuilder(2048);
+    }
+
+    @Benchmark
+    public void stringFormat(Blackhole blackhole) {
+        for (int i = 0; i < REMINDERS; i++) {
+            blackhole.consume(String.format("""
+                Dear %s,
+                
+                This is a friendly reminder about your upcoming interview scheduled for tomorrow.
+                
+                Interview Details:
+                - Interviewer: %s
+                - Date: %s
+                - Time: %s
+                
+                Please make sure you are prepared and join on time.
+                
+                Best regards,
+                Interview Scheduler Team
+                """, names[i], "Jane Interviewer", "Monday, January 07, 2030", "10:00 AM"));
+        }
+    }
+
+    @Benchmark
+    public void compiledTemplate(Blackhole blackhole) {
+        for (int i = 0; i < REMINDERS; i++) {
+            Map<String, String> values = new HashMap<>();
+            values.put("recipientName", names[i]);
+            values.put("interviewerName", "Jane Interviewer");
+            values.put("date", "Monday, January 07, 2030");
+            values.put("time", "10:00 AM");
+            builder.setLength(0);
+            blackhole.consume(template.render(builder, values).toString());
+        }
+    }
+
+    @Test
+    void runBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(NotificationTemplateBenchmarkTest.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,74 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.entity.NotificationTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: an override clears the cache only once it commits
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationTemplateServiceTest {
+
+    @Autowired
+    private NotificationTemplateService notificationTemplateService;
+
+    @Test
+    void testCompiledTemplateRendersAndEscapesHtml() {
+        MailTemplate text = MailTemplate.compile("Hi {{ name }}, see you at {{time}}.{{missing}}", false);
+        assertEquals("Hi <Ann>, see you at 10:00.",
+            text.render(new StringBuilder(), Map.of("name", "<Ann>", "time", "10:00")).toString());
+        assertEquals("Hi , see you at .".length(), text.getLiteralLength());
+
+        MailTemplate html = MailTemplate.compile("<p>{{name}}</p>", true);
+        assertEquals("<p>&lt;Ann &amp; &quot;Bo&quot;&gt;</p>",
+            html.render(new StringBuilder(), Map.of("name", "<Ann & \"Bo\">")).toString());
+
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("Hi {{name", false));
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("Hi {{ }}", false));
+    }
+
+    @Test
+    void testBundledTemplatesRenderAllParts() {
+        NotificationTemplateService.RenderedMail mail = notificationTemplateService.render(
+            Notification.NotificationType.BOOKING_CONFIRMATION,
+            Map.of("recipientName", "Ann", "interviewerName", "Bob", "date", "2030-01-07", "time", "10:00"));
+
+        assertEquals("Interview Booking Confirmation", mail.getSubject());
+        assertTrue(mail.getText().startsWith("Dear Ann,"));
+        assertTrue(mail.getText().contains("- Interviewer: Bob"));
+        assertNotNull(mail.getHtml());
+        assertTrue(mail.getHtml().contains("10:00"));
+    }
+
+    @Test
+    void testOverrideReplacesBundledTemplateAndIsValidated() {
+        Map<String, String> values = Map.of("recipientName", "Ann", "slotCount", "12");
+        // Cached before the override
+        assertEquals("New Interview Slots Generated",
+            notificationTemplateService.render(Notification.NotificationType.SLOT_GENERATION_ALERT, values).getSubject());
+
+        notificationTemplateService.saveOverride(Notification.NotificationType.SLOT_GENERATION_ALERT,
+            NotificationTemplate.Variant.SUBJECT, "{{slotCount}} new slots for {{recipientName}}");
+        try {
+            assertEquals("12 new slots for Ann",
+                notificationTemplateService.render(Notification.NotificationType.SLOT_GENERATION_ALERT, values).getSubject());
+
+            assertThrows(IllegalArgumentException.class, () -> notificationTemplateService.saveOverride(
+                Notification.NotificationType.SLOT_GENERATION_ALERT, NotificationTemplate.Variant.SUBJECT, "{{slotCount"));
+            assertEquals("{{slotCount}} new slots for {{recipientName}}", notificationTemplateService.getSource(
+                Notification.NotificationType.SLOT_GENERATION_ALERT, NotificationTemplate.Variant.SUBJECT));
+        } finally {
+            notificationTemplateService.deleteOverride(Notification.NotificationType.SLOT_GENERATION_ALERT,
+                NotificationTemplate.Variant.SUBJECT);
+        }
+        assertEquals("New Interview Slots Generated",
+            notificationTemplateService.render(Notification.NotificationType.SLOT_GENERATION_ALERT, values).getSubject());
+    }
+}
@@ -0,0 +1,80 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.Notification;
+import com.vasitum.scheduler.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the ticker thread must see committed rows
+@SpringBootTest
+@ActiveProfiles("test")
+class ReminderWheelServiceTest {
+
+    @Autowired
+    private ReminderWheelService reminderWheelService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        notificationRepository.deleteAllById(created);
+    }
+
+    @Test
+    void testReloadHoldsOnlyPendingRemindersWithinHorizon() {
+        Long soon = reminder(LocalDateTime.now().plusHours(1)).getId();
+        Long later = reminder(LocalDateTime.now().plusHours(10)).getId();
+        Notification cancelled = reminder(LocalDateTime.now().plusHours(2));
+        cancelled.setStatus(Notification.NotificationStatus.CANCELLED);
+        notificationRepository.save(cancelled);
+
+        reminderWheelService.reload();
+
+        assertTrue(reminderWheelService.isScheduled(soon));
+        assertFalse(reminderWheelService.isScheduled(later));
+        assertFalse(reminderWheelService.isScheduled(cancelled.getId()));
+
+        reminderWheelService.cancel(List.of(soon));
+        assertFalse(reminderWheelService.isScheduled(soon));
+    }
+
+    @Test
+    void testReminderIsSentAtItsTime() throws InterruptedException {
+        LocalDateTime dueAt = LocalDateTime.now().plusSeconds(2);
+        Notification notification = reminder(dueAt);
+        reminderWheelService.schedule(notification.getId(), dueAt);
+
+        long deadline = System.currentTimeMillis() + 10000;
+        Notification current = notification;
+        while (current.getStatus() != Notification.NotificationStatus.SENT && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            current = notificationRepository.findById(notification.getId()).orElseThrow();
+        }
+
+        assertEquals(Notification.NotificationStatus.SENT, current.getStatus());
+        assertFalse(current.getSentAt().isBefore(dueAt));
+        // One tick, plus scheduling slack on a busy machine
+        assertTrue(current.getSentAt().isBefore(dueAt.plusSeconds(3)), "sent at " + current.getSentAt());
+    }
+
+    private Notification reminder(LocalDateTime dueAt) {
+        Notification notification = new Notification("wheel@example.com", "Interview Reminder - Tomorrow", "Body",
+            Notification.NotificationType.INTERVIEW_REMINDER);
+        notification.setScheduledFor(dueAt);
+        Notification saved = notificationRepository.save(notification);
+        created.add(saved.getId());
+        return saved;
+    }
+}
@@ -0,0 +1,98 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.SlotAuditRecord;
+import com.vasitum.scheduler.entity.SlotAuditRecord.AuditAction;
+import com.vasitum.scheduler.repository.SlotAuditRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: audit records are only buffered once the surrounding transaction
+// commits, so these tests record outside one and clean up the rows they flushed. The buffer
+// holds two records, so a third spills, and only the tests flush.
+@SpringBootTest(properties = {
+    "app.audit.buffer-capacity=2",
+    "app.audit.flush-interval-ms=3600000",
+    "app.audit.spill-file=target/audit-test/spill.jsonl"
+})
+@ActiveProfiles("test")
+class SlotAuditServiceTest {
+
+    private static final long SLOT_ID = 987654L;
+    private static final Path SPILL_FILE = Path.of("target/audit-test/spill.jsonl");
+
+    @Autowired
+    private SlotAuditService auditService;
+
+    @Autowired
+    private SlotAuditRecordRepository auditRecordRepository;
+
+    @AfterEach
+    void tearDown() {
+        auditRecordRepository.deleteAll(auditRecordRepository.findBySlotIdOrderByIdAsc(SLOT_ID));
+    }
+
+    @Test
+    void testRecordsAreBufferedAndAppendedInOrder() {
+        SlotAuditService.Snapshot open = new SlotAuditService.Snapshot(InterviewSlot.SlotStatus.AVAILABLE, null, null);
+        SlotAuditService.Snapshot booked = new SlotAuditService.Snapshot(
+            InterviewSlot.SlotStatus.BOOKED, "Jane Smith", "jane@example.com");
+
+        auditService.record(AuditAction.BOOKED, SLOT_ID, open, booked);
+        auditService.record(AuditAction.CANCELLED, SLOT_ID, booked, open);
+        auditService.flush();
+
+        assertEquals(0, auditService.getBufferDepth());
+        List<SlotAuditRecord> records = auditRecordRepository.findBySlotIdOrderByIdAsc(SLOT_ID);
+        assertEquals(2, records.size());
+
+        SlotAuditRecord booking = records.get(0);
+        assertEquals(AuditAction.BOOKED, booking.getAction());
+        assertNotNull(booking.getActor());
+        assertEquals(InterviewSlot.SlotStatus.AVAILABLE, booking.getBeforeStatus());
+        assertNull(booking.getBeforeCandidateEmail());
+        assertEquals(InterviewSlot.SlotStatus.BOOKED, booking.getAfterStatus());
+        assertEquals("jane@example.com", booking.getAfterCandidateEmail());
+
+        assertEquals(AuditAction.CANCELLED, records.get(1).getAction());
+        assertEquals("Jane Smith", records.get(1).getBeforeCandidateName());
+    }
+
+    @Test
+    void testOverflowIsSpilledAndReplayed() throws IOException {
+        SlotAuditService.Snapshot open = new SlotAuditService.Snapshot(InterviewSlot.SlotStatus.AVAILABLE, null, null);
+        SlotAuditService.Snapshot booked = new SlotAuditService.Snapshot(
+            InterviewSlot.SlotStatus.BOOKED, "Jane Smith", "jane@example.com");
+        auditService.flush();
+
+        auditService.record(AuditAction.BOOKED, SLOT_ID, open, booked);
+        auditService.record(AuditAction.CANCELLED, SLOT_ID, booked, open);
+        auditService.record(AuditAction.BOOKED, SLOT_ID, open, booked);
+        auditService.record(AuditAction.CANCELLED, SLOT_ID, booked, open);
+
+        assertEquals(2, auditService.getBufferDepth());
+        assertEquals(2, Files.readAllLines(SPILL_FILE).size());
+
+        auditService.flush();
+
+        assertFalse(Files.exists(SPILL_FILE));
+        List<SlotAuditRecord> records = auditRecordRepository.findBySlotIdOrderByIdAsc(SLOT_ID);
+        assertEquals(4, records.size());
+        SlotAuditRecord replayed = records.get(2);
+        assertEquals(AuditAction.BOOKED, replayed.getAction());
+        assertEquals(InterviewSlot.SlotStatus.AVAILABLE, replayed.getBeforeStatus());
+        assertNull(replayed.getBeforeCandidateName());
+        assertEquals("jane@example.com", replayed.getAfterCandidateEmail());
+        assertEquals(AuditAction.CANCELLED, records.get(3).getAction());
+    }
+}
@@ -0,0 +1,125 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.AvailabilitySlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+// Opt-in: mvn test -Dtest=SlotCalendarBenchmarkTest -Dbenchmark=true
+// Plans two weeks of Mon-Fri 9-17 hour slots for one interviewer with a few existing
+// off-grid slots, comparing the previous LocalTime/TreeSet loop with the bitmap planner.
+// Run with -prof gc via the JMH runner to see the allocation difference.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class SlotCalendarBenchmarkTest {
+
+    private static final int DAYS = 14;
+
+    private List<AvailabilitySlot> rules;
+    private List<Object[]> existing;
+    private LocalDate from;
+    private SlotCalendar.DayPlanner planner;
+
+    @Setup
+    public void setUp() {
+        Interviewer interviewer = new Interviewer("Bench", "bench@example.com", 5);
+        rules = new ArrayList<>();
+        for (DayOfWeek day : new DayOfWeek[]{DayOfWeek.MONDAY, DayOfWeek.TUESDAY,
+                                            DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY}) {
+            rules.add(new AvailabilitySlot(interviewer, day, LocalTime.of(9, 0), LocalTime.of(17, 0)));
+        }
+        from = LocalDate.of(2030, 1, 7);
+        existing = new ArrayList<>();
+        for (int day = 0; day < DAYS; day += 3) {
+            LocalDateTime start = from.plusDays(day).atTime(11, 30);
+            existing.add(new Object[]{start, start.plusHours(1)});
+        }
+        planner = new SlotCalendar.DayPlanner(4, 0);
+    }
+
+    @Benchmark
+    public void legacyLoop(Blackhole blackhole) {
+        TreeSet<LocalDateTime> taken = new TreeSet<>();
+        for (Object[] row : existing) {
+            taken.add((LocalDateTime) row[0]);
+        }
+        int created = 0;
+        for (LocalDate date = from; date.isBefore(from.plusDays(DAYS)); date = date.plusDays(1)) {
+            for (AvailabilitySlot rule : rules) {
+                if (rule.getDayOfWeek().equals(date.getDayOfWeek())) {
+                    LocalTime currentTime = rule.getStartTime();
+                    while (currentTime.isBefore(rule.getEndTime())) {
+                        LocalDateTime slotStart = LocalDateTime.of(date, currentTime);
+                        if (taken.subSet(slotStart, true, slotStart.plusHours(1), true).isEmpty()) {
+                            taken.add(slotStart);
+                            created++;
+                        }
+                        currentTime = currentTime.plusHours(1);
+                    }
+                }
+            }
+        }
+        blackhole.consume(created);
+    }
+
+    @Benchmark
+    public void bitmapPlanner(Blackhole blackhole) {
+        int created = 0;
+        int first = 0;
+        for (LocalDate date = from; date.isBefore(from.plusDays(DAYS)); date = date.plusDays(1)) {
+            planner.reset();
+            planner.addRules(rules, date.getDayOfWeek());
+            if (!planner.hasAvailability()) {
+                continue;
+            }
+            LocalDateTime dayStart = date.atStartOfDay();
+            LocalDateTime dayEnd = dayStart.plusDays(1);
+            while (first < existing.size() && !((LocalDateTime) existing.get(first)[1]).isAfter(dayStart)) {
+                first++;
+            }
+            for (int i = first; i < existing.size(); i++) {
+                LocalDateTime start = (LocalDateTime) existing.get(i)[0];
+                if (!start.isBefore(dayEnd)) {
+                    break;
+                }
+                planner.addBusy(dayStart, start, (LocalDateTime) existing.get(i)[1]);
+            }
+            created += planner.plan().cardinality();
+        }
+        blackhole.consume(created);
+    }
+
+    @Test
+    void runBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(SlotCalendarBenchmarkTest.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,73 @@
+package com.vasitum.scheduler.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotCalendarTest {
+
+    private final LocalDateTime dayStart = LocalDate.of(2030, 1, 7).atStartOfDay();
+
+    @Test
+    void testHourSlotsFillTheRuleAndStopAtItsEnd() {
+        SlotCalendar.DayPlanner planner = new SlotCalendar.DayPlanner(4, 0);
+        planner.addAvailability(LocalTime.of(9, 0), LocalTime.of(12, 30));
+
+        assertEquals(List.of("09:00", "10:00", "11:00"), startsOf(planner.plan()));
+    }
+
+    @Test
+    void testFortyFiveMinuteSlotsKeepBufferAroundBusyTime() {
+        // 45-minute slots with a 15-minute buffer: a 60-minute grid from 09:00
+        SlotCalendar.DayPlanner planner = new SlotCalendar.DayPlanner(3, 1);
+        planner.addAvailability(LocalTime.of(9, 0), LocalTime.of(13, 0));
+        planner.addBusy(dayStart, dayStart.plusHours(10).plusMinutes(50), dayStart.plusHours(11).plusMinutes(5));
+
+        // 10:00-10:45 leaves less than the buffer before 10:50; 11:00 starts inside the busy time
+        assertEquals(List.of("09:00", "12:00"), startsOf(planner.plan()));
+    }
+
+    @Test
+    void testOverlappingRulesDoNotProduceOverlappingSlots() {
+        SlotCalendar.DayPlanner planner = new SlotCalendar.DayPlanner(4, 0);
+        planner.addAvailability(LocalTime.of(9, 0), LocalTime.of(11, 0));
+        planner.addAvailability(LocalTime.of(9, 30), LocalTime.of(11, 30));
+
+        assertEquals(List.of("09:00", "10:00"), startsOf(planner.plan()));
+    }
+
+    @Test
+    void testShiftsCarryAcrossWords() {
+        DayBitmap source = new DayBitmap();
+        source.set(60, 70);
+
+        DayBitmap shifted = new DayBitmap();
+        shifted.orShifted(source, 10);
+        assertEquals(70, shifted.nextSetBit(0));
+        assertEquals(10, shifted.cardinality());
+
+        shifted.clear();
+        shifted.orShifted(source, -10);
+        assertEquals(50, shifted.nextSetBit(0));
+        assertEquals(10, shifted.cardinality());
+
+        shifted.clear();
+        shifted.orShifted(source, 30);
+        assertEquals(90, shifted.nextSetBit(0));
+        assertEquals(6, shifted.cardinality());
+    }
+
+    private static List<String> startsOf(DayBitmap starts) {
+        List<String> times = new ArrayList<>();
+        for (int cell = starts.nextSetBit(0); cell >= 0; cell = starts.nextSetBit(cell + 1)) {
+            times.add(LocalTime.ofSecondOfDay(cell * DayBitmap.CELL_MINUTES * 60L).toString());
+        }
+        return times;
+    }
+}
@@ -0,0 +1,203 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.EpochMinuteConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Opt-in: mvn test -Dtest=SlotEncodingBenchmarkTest -Dbenchmark=true [-Drows=10000000]
+// Loads the same slots into an H2 file database once per encoding, with the indexes of
+// interview_slots, and logs the on-disk size of the table alone and of its indexes
+// (each measured after SHUTDOWN COMPACT). The benchmarks then time the two hot lookups:
+// open slots in a window (idx_slots_status_start) and one interviewer's week
+// (idx_slots_interviewer_status_start).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class SlotEncodingBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotEncodingBenchmarkTest.class);
+
+    private static final int INTERVIEWERS = 2000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @Param({"datetime", "compact"})
+    public String encoding;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Path dir;
+    private Connection connection;
+    private PreparedStatement openInWindow;
+    private PreparedStatement interviewerWeek;
+    private int query;
+
+    @Setup
+    public void setUp() throws Exception {
+        boolean compact = "compact".equals(encoding);
+        dir = Files.createTempDirectory("slot-encoding");
+        String url = "jdbc:h2:file:" + dir.resolve("slots") + ";DB_CLOSE_ON_EXIT=FALSE";
+
+        try (Connection load = DriverManager.getConnection(url, "sa", "")) {
+            load.setAutoCommit(false);
+            try (Statement statement = load.createStatement()) {
+                statement.execute("CREATE TABLE interview_slots (id BIGINT PRIMARY KEY, interviewer_id BIGINT NOT NULL, " +
+                    (compact
+                        ? "start_time INT NOT NULL, end_time INT NOT NULL, status TINYINT NOT NULL, "
+                        : "start_time TIMESTAMP(6) NOT NULL, end_time TIMESTAMP(6) NOT NULL, status VARCHAR(255) NOT NULL, ") +
+                    "candidate_name VARCHAR(255), version BIGINT)");
+            }
+            try (PreparedStatement insert = load.prepareStatement(
+                    "INSERT INTO interview_slots (id, interviewer_id, start_time, end_time, status, version) VALUES (?, ?, ?, ?, ?, 0)")) {
+                for (int i = 0; i < rows; i++) {
+                    LocalDateTime start = BASE.plusHours(i / INTERVIEWERS);
+                    int status = i % 10 < 3 ? 1 : i % 10 == 3 ? 3 : 0;
+                    insert.setLong(1, i + 1);
+                    insert.setLong(2, i % INTERVIEWERS + 1);
+                    if (compact) {
+                        insert.setInt(3, EpochMinuteConverter.toEpochMinute(start));
+                        insert.setInt(4, EpochMinuteConverter.toEpochMinute(start.plusHours(1)));
+                        insert.setByte(5, (byte) status);
+                    } else {
+                        insert.setTimestamp(3, Timestamp.valueOf(start));
+                        insert.setTimestamp(4, Timestamp.valueOf(start.plusHours(1)));
+                        insert.setString(5, status == 1 ? "BOOKED" : status == 3 ? "BLOCKED" : "AVAILABLE");
+                    }
+                    insert.addBatch();
+                    if (i % 10000 == 9999) {
+                        insert.executeBatch();
+                        load.commit();
+                    }
+                }
+                insert.executeBatch();
+                load.commit();
+            }
+            try (Statement statement = load.createStatement()) {
+                statement.execute("SHUTDOWN COMPACT");
+            }
+        }
+        long tableBytes = databaseBytes();
+
+        try (Connection index = DriverManager.getConnection(url, "sa", "");
+             Statement statement = index.createStatement()) {
+            statement.execute("CREATE UNIQUE INDEX uk_slots_interviewer_start ON interview_slots (interviewer_id, start_time)");
+            statement.execute("CREATE INDEX idx_slots_status_start ON interview_slots (status, start_time)");
+            statement.execute("CREATE INDEX idx_slots_interviewer_status_start ON interview_slots (interviewer_id, status, start_time)");
+            statement.execute("SHUTDOWN COMPACT");
+        }
+        long indexBytes = databaseBytes() - tableBytes;
+        logger.info("[{}, {} rows] table {} bytes, indexes {} bytes", encoding, rows, tableBytes, indexBytes);
+
+        connection = DriverManager.getConnection(url, "sa", "");
+        openInWindow = connection.prepareStatement(
+            "SELECT COUNT(*) FROM interview_slots WHERE status = ? AND start_time >= ? AND start_time < ?");
+        interviewerWeek = connection.prepareStatement(
+            "SELECT id, start_time FROM interview_slots WHERE interviewer_id = ? AND status = ? " +
+            "AND start_time >= ? AND start_time < ? ORDER BY start_time");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        for (File file : dir.toFile().listFiles()) {
+            file.delete();
+        }
+        dir.toFile().delete();
+    }
+
+    @Benchmark
+    public long openSlotsInWindow() throws Exception {
+        // A two-hour window somewhere in the table: roughly 2 * INTERVIEWERS * 0.6 open rows
+        LocalDateTime from = BASE.plusHours(nextHour());
+        bind(openInWindow, 1, "AVAILABLE", 0);
+        bindTime(openInWindow, 2, from);
+        bindTime(openInWindow, 3, from.plusHours(2));
+        try (ResultSet result = openInWindow.executeQuery()) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public long interviewerWeek() throws Exception {
+        LocalDateTime from = BASE.plusHours(nextHour());
+        interviewerWeek.setLong(1, query % INTERVIEWERS + 1);
+        bind(interviewerWeek, 2, "AVAILABLE", 0);
+        bindTime(interviewerWeek, 3, from);
+        bindTime(interviewerWeek, 4, from.plusWeeks(1));
+        long count = 0;
+        try (ResultSet result = interviewerWeek.executeQuery()) {
+            while (result.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int nextHour() {
+        query = query * 31 + 17 & Integer.MAX_VALUE;
+        return query % Math.max(1, rows / INTERVIEWERS - 168);
+    }
+
+    private void bind(PreparedStatement statement, int index, String name, int code) throws Exception {
+        if ("compact".equals(encoding)) {
+            statement.setByte(index, (byte) code);
+        } else {
+            statement.setString(index, name);
+        }
+    }
+
+    private void bindTime(PreparedStatement statement, int index, LocalDateTime time) throws Exception {
+        if ("compact".equals(encoding)) {
+            statement.setInt(index, EpochMinuteConverter.toEpochMinute(time));
+        } else {
+            statement.setTimestamp(index, Timestamp.valueOf(time));
+        }
+    }
+
+    private long databaseBytes() throws Exception {
+        return Files.size(dir.resolve("slots.mv.db"));
+    }
+
+    @Test
+    void runBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(SlotEncodingBenchmarkTest.class.getSimpleName())
+            .param("rows", System.getProperty("rows", "1000000"))
+            .build()).run();
+    }
+}
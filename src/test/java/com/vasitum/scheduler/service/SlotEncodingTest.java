@@ -0,0 +1,96 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.AvailabilitySlotDto;
+import com.vasitum.scheduler.dto.BookSlotRequest;
+import com.vasitum.scheduler.dto.CreateInterviewerRequest;
+import com.vasitum.scheduler.dto.InterviewSlotDto;
+import com.vasitum.scheduler.entity.EpochMinuteConverter;
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.SlotStatusCodeConverter;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Own database: the compact mapping changes the schema, which the other contexts share
+@SpringBootTest(properties = {
+    "app.slots.encoding=compact",
+    "spring.datasource.url=jdbc:h2:mem:compactdb"
+})
+@ActiveProfiles("test")
+@Transactional
+class SlotEncodingTest {
+
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Autowired
+    private InterviewSlotService interviewSlotService;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDate tomorrow;
+    private Interviewer interviewer;
+
+    @BeforeEach
+    void setUp() {
+        tomorrow = LocalDate.now().plusDays(1);
+        interviewer = interviewerService.createInterviewer(new CreateInterviewerRequest(
+            "Compact", "compact@example.com", 5,
+            List.of(new AvailabilitySlotDto(tomorrow.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(12, 0)))));
+        interviewerService.generateInterviewSlots(interviewer.getId());
+    }
+
+    @Test
+    void testSlotsAreStoredAsEpochMinutesAndStatusCodes() {
+        Map<String, Object> types = jdbcTemplate.queryForList(
+            "SELECT COLUMN_NAME, DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = 'INTERVIEW_SLOTS'")
+            .stream().collect(Collectors.toMap(
+                row -> (String) row.get("COLUMN_NAME"), row -> row.get("DATA_TYPE")));
+        assertEquals("INTEGER", types.get("START_TIME"));
+        assertEquals("INTEGER", types.get("END_TIME"));
+        assertEquals("TINYINT", types.get("STATUS"));
+
+        InterviewSlot slot = interviewSlotRepository.findByInterviewerIdAndStartTimeBetween(
+            interviewer.getId(), tomorrow.atTime(10, 0), tomorrow.atTime(10, 0)).get(0);
+        InterviewSlotDto booked = interviewSlotService.bookSlot(
+            new BookSlotRequest(slot.getId(), "Cand", "cand@example.com"));
+        assertEquals(tomorrow.atTime(10, 0), booked.getStartTime());
+        assertEquals(tomorrow.atTime(11, 0), booked.getEndTime());
+
+        interviewSlotRepository.flush();
+        Map<String, Object> raw = jdbcTemplate.queryForMap(
+            "SELECT start_time, status FROM interview_slots WHERE id = ?", slot.getId());
+        assertEquals(EpochMinuteConverter.toEpochMinute(tomorrow.atTime(10, 0)), ((Number) raw.get("START_TIME")).intValue());
+        assertEquals(SlotStatusCodeConverter.toCode(InterviewSlot.SlotStatus.BOOKED), ((Number) raw.get("STATUS")).byteValue());
+    }
+
+    @Test
+    void testAvailabilityUpdateMatchesCompactSlotsToRules() {
+        interviewerService.updateInterviewer(interviewer.getId(), new CreateInterviewerRequest(
+            "Compact", "compact@example.com", 5,
+            List.of(new AvailabilitySlotDto(tomorrow.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(10, 0)))));
+
+        // Weekday and time of day are derived from the epoch minute in SQL
+        List<InterviewSlot> slots = interviewSlotRepository.findByInterviewerIdAndStartTimeBetween(
+            interviewer.getId(), tomorrow.atStartOfDay(), tomorrow.atTime(23, 0));
+        assertEquals(List.of(tomorrow.atTime(9, 0)), slots.stream().map(InterviewSlot::getStartTime).toList());
+    }
+}
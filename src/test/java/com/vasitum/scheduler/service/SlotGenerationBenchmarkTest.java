@@ -0,0 +1,94 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.AvailabilitySlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Opt-in: mvn test -Dtest=SlotGenerationBenchmarkTest -Dbenchmark=true
+// Generates two weeks of slots for 1,000 interviewers (Mon-Fri, 9-17) and then re-runs
+// generation to time the no-op path. The persistence context is cleared per interviewer,
+// as each run would have its own in production. Timings are logged, not asserted.
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SlotGenerationBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotGenerationBenchmarkTest.class);
+
+    private static final int INTERVIEWERS = 1000;
+
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void benchmarkGenerationForThousandInterviewers() {
+        List<Long> ids = new ArrayList<>(INTERVIEWERS);
+        for (int i = 0; i < INTERVIEWERS; i++) {
+            Interviewer interviewer = interviewerRepository.save(
+                new Interviewer("Bench " + i, "bench" + i + "@example.com", 5));
+            for (DayOfWeek day : new DayOfWeek[]{DayOfWeek.MONDAY, DayOfWeek.TUESDAY,
+                                                DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY}) {
+                availabilitySlotRepository.save(new AvailabilitySlot(
+                    interviewer, day, LocalTime.of(9, 0), LocalTime.of(17, 0)));
+            }
+            ids.add(interviewer.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long before = interviewSlotRepository.count();
+        long start = System.nanoTime();
+        for (Long id : ids) {
+            interviewerService.generateInterviewSlots(id);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long firstRunMs = (System.nanoTime() - start) / 1_000_000;
+        long created = interviewSlotRepository.count() - before;
+
+        start = System.nanoTime();
+        for (Long id : ids) {
+            interviewerService.generateInterviewSlots(id);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long rerunMs = (System.nanoTime() - start) / 1_000_000;
+        long recreated = interviewSlotRepository.count() - before - created;
+
+        logger.info("Slot generation for {} interviewers: {} slots in {} ms; re-run created {} in {} ms",
+            INTERVIEWERS, created, firstRunMs, recreated, rerunMs);
+        assertTrue(created > 0);
+        assertEquals(0, recreated);
+    }
+}
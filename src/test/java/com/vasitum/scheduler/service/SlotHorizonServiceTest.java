@@ -0,0 +1,65 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.entity.AvailabilitySlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.entity.SlotHorizonProgress;
+import com.vasitum.scheduler.repository.AvailabilitySlotRepository;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import com.vasitum.scheduler.repository.SlotHorizonProgressRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SlotHorizonServiceTest {
+
+    @Autowired
+    private SlotHorizonService slotHorizonService;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private SlotHorizonProgressRepository slotHorizonProgressRepository;
+
+    @Test
+    void testExtendPartitionOnlyMaterializesUncoveredDays() {
+        Interviewer interviewer = interviewerRepository.save(new Interviewer("Horizon", "horizon@example.com", 5));
+        for (DayOfWeek day : DayOfWeek.values()) {
+            availabilitySlotRepository.save(new AvailabilitySlot(interviewer, day, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        }
+        LocalDate today = LocalDate.now();
+        slotHorizonProgressRepository.save(new SlotHorizonProgress(interviewer.getId(), today.plusDays(7)));
+
+        Map<Long, List<AvailabilitySlot>> rules = Map.of(interviewer.getId(),
+            availabilitySlotRepository.findByInterviewerIdAndIsActiveTrue(interviewer.getId()));
+
+        // One slot per day for the seven days past the recorded coverage
+        assertEquals(7, slotHorizonService.extendPartition(List.of(interviewer.getId()), rules, today, today.plusDays(14)));
+        assertEquals(0, slotHorizonService.extendPartition(List.of(interviewer.getId()), rules, today, today.plusDays(14)));
+
+        assertEquals(today.plusDays(14),
+            slotHorizonProgressRepository.findById(interviewer.getId()).orElseThrow().getCoveredUntil());
+        assertTrue(interviewSlotRepository.findStartTimesInRange(
+            interviewer.getId(), today.atStartOfDay(), today.plusDays(7).atStartOfDay().minusNanos(1)).isEmpty());
+    }
+}
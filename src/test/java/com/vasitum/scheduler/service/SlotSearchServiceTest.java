@@ -0,0 +1,134 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.CommonSlotDto;
+import com.vasitum.scheduler.dto.EarliestSlotsRequest;
+import com.vasitum.scheduler.dto.InterviewSlotDto;
+import com.vasitum.scheduler.dto.TimeWindow;
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import com.vasitum.scheduler.repository.InterviewerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SlotSearchServiceTest {
+
+    @Autowired
+    private SlotSearchService slotSearchService;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Autowired
+    private InterviewerLoadTracker loadTracker;
+
+    // Off the hour so seeded slots never fall inside the search windows
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(7).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void testEarliestSlotsSkipInterviewersAtCapacity() {
+        Interviewer full = interviewerRepository.save(new Interviewer("Full", "full@example.com", 1));
+        Interviewer open = interviewerRepository.save(new Interviewer("Open", "open@example.com", 5));
+
+        InterviewSlot booked = new InterviewSlot(full, base.minusMinutes(1), base.plusMinutes(59));
+        booked.setStatus(InterviewSlot.SlotStatus.BOOKED);
+        interviewSlotRepository.save(booked);
+        interviewSlotRepository.save(new InterviewSlot(full, base, base.plusHours(1)));
+        InterviewSlot first = interviewSlotRepository.save(new InterviewSlot(open, base.plusMinutes(10), base.plusMinutes(70)));
+        InterviewSlot second = interviewSlotRepository.save(new InterviewSlot(open, base.plusMinutes(20), base.plusMinutes(80)));
+        loadTracker.refresh();
+
+        List<InterviewSlotDto> slots = slotSearchService.findEarliestAvailable(new EarliestSlotsRequest(
+            5, List.of(new TimeWindow(base, base.plusMinutes(80)))));
+
+        assertEquals(List.of(first.getId(), second.getId()), slots.stream().map(InterviewSlotDto::getId).toList());
+    }
+
+    @Test
+    void testEarliestSlotsSpendCapacityAsTheyArePicked() {
+        Interviewer oneLeft = interviewerRepository.save(new Interviewer("One", "one@example.com", 1));
+        Interviewer other = interviewerRepository.save(new Interviewer("Other", "other@example.com", 5));
+
+        InterviewSlot picked = interviewSlotRepository.save(new InterviewSlot(oneLeft, base, base.plusMinutes(30)));
+        interviewSlotRepository.save(new InterviewSlot(oneLeft, base.plusMinutes(5), base.plusMinutes(35)));
+        interviewSlotRepository.save(new InterviewSlot(oneLeft, base.plusMinutes(10), base.plusMinutes(40)));
+        InterviewSlot first = interviewSlotRepository.save(new InterviewSlot(other, base.plusMinutes(20), base.plusMinutes(50)));
+        InterviewSlot second = interviewSlotRepository.save(new InterviewSlot(other, base.plusMinutes(30), base.plusMinutes(60)));
+        loadTracker.refresh();
+
+        List<InterviewSlotDto> slots = slotSearchService.findEarliestAvailable(new EarliestSlotsRequest(
+            3, List.of(new TimeWindow(base, base.plusMinutes(60)))));
+
+        assertEquals(List.of(picked.getId(), first.getId(), second.getId()),
+            slots.stream().map(InterviewSlotDto::getId).toList());
+    }
+
+    @Test
+    void testEarliestSlotsMergeStreamsAcrossWindowsUpToLimit() {
+        Interviewer a = interviewerRepository.save(new Interviewer("A", "a@example.com", 5));
+        Interviewer b = interviewerRepository.save(new Interviewer("B", "b@example.com", 5));
+
+        InterviewSlot a1 = interviewSlotRepository.save(new InterviewSlot(a, base, base.plusMinutes(30)));
+        InterviewSlot b1 = interviewSlotRepository.save(new InterviewSlot(b, base.plusMinutes(5), base.plusMinutes(35)));
+        interviewSlotRepository.save(new InterviewSlot(a, base.plusMinutes(40), base.plusMinutes(70)));
+        InterviewSlot b2 = interviewSlotRepository.save(new InterviewSlot(b, base.plusHours(3), base.plusHours(3).plusMinutes(30)));
+        loadTracker.refresh();
+
+        // The a slot at +40 ends outside both windows and must not be returned
+        List<InterviewSlotDto> slots = slotSearchService.findEarliestAvailable(new EarliestSlotsRequest(3, List.of(
+            new TimeWindow(base.plusHours(3), base.plusHours(4)),
+            new TimeWindow(base, base.plusMinutes(40)))));
+
+        assertEquals(List.of(a1.getId(), b1.getId(), b2.getId()), slots.stream().map(InterviewSlotDto::getId).toList());
+    }
+
+    @Test
+    void testCommonAvailabilityIntersectsPanelAndRespectsCapacity() {
+        Interviewer a = interviewerRepository.save(new Interviewer("A", "a@example.com", 5));
+        Interviewer b = interviewerRepository.save(new Interviewer("B", "b@example.com", 1));
+
+        InterviewSlot a1 = interviewSlotRepository.save(new InterviewSlot(a, base, base.plusMinutes(30)));
+        InterviewSlot b1 = interviewSlotRepository.save(new InterviewSlot(b, base, base.plusMinutes(30)));
+        interviewSlotRepository.save(new InterviewSlot(a, base.plusMinutes(30), base.plusMinutes(60)));
+        InterviewSlot a3 = interviewSlotRepository.save(new InterviewSlot(a, base.plusMinutes(60), base.plusMinutes(90)));
+        InterviewSlot b3 = interviewSlotRepository.save(new InterviewSlot(b, base.plusMinutes(60), base.plusMinutes(90)));
+        loadTracker.refresh();
+
+        List<CommonSlotDto> common = slotSearchService.findCommonAvailability(
+            List.of(a.getId(), b.getId()), base.minusHours(1), base.plusHours(2));
+
+        assertEquals(2, common.size());
+        assertEquals(base, common.get(0).getStartTime());
+        assertEquals(List.of(a1.getId(), b1.getId()), common.get(0).getSlotIds());
+        assertEquals(base.plusMinutes(60), common.get(1).getStartTime());
+        assertEquals(List.of(a3.getId(), b3.getId()), common.get(1).getSlotIds());
+
+        // Once b is at their weekly limit no time works for the panel that week
+        b1.setStatus(InterviewSlot.SlotStatus.BOOKED);
+        interviewSlotRepository.saveAndFlush(b1);
+        loadTracker.refresh();
+
+        assertTrue(slotSearchService.findCommonAvailability(
+            List.of(a.getId(), b.getId()), base.minusHours(1), base.plusHours(2)).isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.vasitum.scheduler.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void testTimersFireOnTheirTickAcrossLevels() {
+        TimingWheel wheel = new TimingWheel(3, 1000);
+        // Level 0, exactly on a level-1 boundary, level 1, and level 2
+        long[] deadlines = {1010, 1024, 1100, 1000 + 5000};
+        for (int i = 0; i < deadlines.length; i++) {
+            assertTrue(wheel.schedule(i, deadlines[i]));
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long tick = 1001; tick <= 7000; tick++) {
+            for (Long key : wheel.advance(tick)) {
+                firedAt.put(key, tick);
+            }
+        }
+        for (int i = 0; i < deadlines.length; i++) {
+            assertEquals(deadlines[i], firedAt.get((long) i), "timer " + i);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testRandomTimersMatchTheirDeadlinesWhenAdvancedInJumps() {
+        Random random = new Random(42);
+        TimingWheel wheel = new TimingWheel(3, 0);
+        Map<Long, Long> expected = new HashMap<>();
+        for (long key = 0; key < 2000; key++) {
+            long deadline = 1 + random.nextInt(200000);
+            wheel.schedule(key, deadline);
+            expected.put(key, deadline);
+        }
+
+        Map<Long, Long> fired = new HashMap<>();
+        long now = 0;
+        while (wheel.size() > 0) {
+            long previous = now;
+            now += 1 + random.nextInt(50);
+            for (Long key : wheel.advance(now)) {
+                // Jumping ahead fires everything in between, never anything later
+                long deadline = expected.get(key);
+                assertTrue(deadline > previous && deadline <= now, "timer " + key);
+                fired.put(key, deadline);
+            }
+        }
+        assertEquals(expected, fired);
+    }
+
+    @Test
+    void testCancelRescheduleAndOutOfRange() {
+        TimingWheel wheel = new TimingWheel(2, 0);
+        wheel.schedule(1, 10);
+        wheel.schedule(2, 20);
+        wheel.schedule(2, 30);
+        assertTrue(wheel.cancel(1));
+        assertFalse(wheel.cancel(1));
+        // Two levels reach 64 * 64 ticks ahead
+        assertFalse(wheel.schedule(3, 64 * 64));
+        assertFalse(wheel.contains(3));
+        // Already overdue: fires on the next tick
+        wheel.advance(25);
+        wheel.schedule(4, 5);
+
+        List<Long> fired = new ArrayList<>(wheel.advance(26));
+        assertEquals(List.of(4L), fired);
+        fired.addAll(wheel.advance(40));
+        assertEquals(List.of(4L, 2L), fired);
+    }
+}
@@ -0,0 +1,116 @@
+package com.vasitum.scheduler.service;
+
+import com.vasitum.scheduler.dto.AvailabilitySlotDto;
+import com.vasitum.scheduler.dto.BookAnyRequest;
+import com.vasitum.scheduler.dto.BookSlotRequest;
+import com.vasitum.scheduler.dto.BulkBlockResult;
+import com.vasitum.scheduler.dto.CreateInterviewerRequest;
+import com.vasitum.scheduler.dto.InterviewSlotDto;
+import com.vasitum.scheduler.entity.InterviewSlot;
+import com.vasitum.scheduler.entity.Interviewer;
+import com.vasitum.scheduler.exception.SlotBookingException;
+import com.vasitum.scheduler.repository.InterviewSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.slots.mode=virtual")
+@ActiveProfiles("test")
+@Transactional
+class VirtualSlotServiceTest {
+
+    @Autowired
+    private VirtualSlotService virtualSlotService;
+
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Autowired
+    private InterviewSlotService interviewSlotService;
+
+    @Autowired
+    private InterviewSlotRepository interviewSlotRepository;
+
+    private LocalDate tomorrow;
+    private Interviewer interviewer;
+
+    @BeforeEach
+    void setUp() {
+        tomorrow = LocalDate.now().plusDays(1);
+        interviewer = interviewerService.createInterviewer(new CreateInterviewerRequest(
+            "Virtual", "virtual@example.com", 5,
+            List.of(new AvailabilitySlotDto(tomorrow.getDayOfWeek(), LocalTime.of(10, 0), LocalTime.of(12, 0)))));
+    }
+
+    @Test
+    void testOpenSlotsAreComputedWithoutRows() {
+        assertTrue(interviewSlotRepository.findStartTimesInRange(
+            interviewer.getId(), tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay()).isEmpty());
+
+        List<InterviewSlot> open = virtualSlotService.findOpenSlots(
+            List.of(interviewer.getId()), tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay());
+
+        assertEquals(List.of(tomorrow.atTime(10, 0), tomorrow.atTime(11, 0)),
+            open.stream().map(InterviewSlot::getStartTime).toList());
+        assertTrue(open.stream().allMatch(slot -> VirtualSlotService.isVirtualId(slot.getId())));
+        assertEquals(tomorrow.atTime(11, 0), interviewSlotService.getSlot(open.get(1).getId()).getStartTime());
+    }
+
+    @Test
+    void testBookingVirtualSlotMaterializesIt() {
+        LocalDateTime start = tomorrow.atTime(10, 0);
+        Long virtualId = VirtualSlotService.encodeId(interviewer.getId(), start);
+
+        InterviewSlotDto booked = interviewSlotService.bookSlot(
+            new BookSlotRequest(virtualId, "Jane Smith", "jane@example.com"));
+
+        assertTrue(booked.getId() > 0);
+        assertEquals(InterviewSlot.SlotStatus.BOOKED, booked.getStatus());
+        assertEquals(start, booked.getStartTime());
+
+        List<InterviewSlot> open = virtualSlotService.findOpenSlots(
+            List.of(interviewer.getId()), tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay());
+        assertEquals(List.of(tomorrow.atTime(11, 0)), open.stream().map(InterviewSlot::getStartTime).toList());
+
+        assertThrows(SlotBookingException.class, () -> interviewSlotService.bookSlot(
+            new BookSlotRequest(virtualId, "John Smith", "john@example.com")));
+    }
+
+    @Test
+    void testBookAnyMaterializesOnlyTheSlotItBooks() {
+        Interviewer other = interviewerService.createInterviewer(new CreateInterviewerRequest(
+            "Virtual Two", "virtual-two@example.com", 5,
+            List.of(new AvailabilitySlotDto(tomorrow.getDayOfWeek(), LocalTime.of(10, 0), LocalTime.of(12, 0)))));
+
+        InterviewSlotDto booked = interviewSlotService.bookAnyInterviewer(
+            new BookAnyRequest(tomorrow.atTime(10, 0), "Jane Smith", "jane@example.com"));
+
+        assertEquals(InterviewSlot.SlotStatus.BOOKED, booked.getStatus());
+        int rows = 0;
+        for (Interviewer panelist : List.of(interviewer, other)) {
+            rows += interviewSlotRepository.findStartTimesInRange(
+                panelist.getId(), tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay()).size();
+        }
+        assertTrue(rows <= 1);
+    }
+
+    @Test
+    void testBlockRangeCoversUnmaterializedSlots() {
+        BulkBlockResult result = interviewSlotService.blockInterviewerRange(
+            interviewer.getId(), tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay());
+
+        assertEquals(2, result.getBlockedSlots());
+        assertTrue(virtualSlotService.findOpenSlots(
+            List.of(interviewer.getId()), tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay()).isEmpty());
+    }
+}